@@ -0,0 +1,90 @@
+package mangooio.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.mangoo.enums.ExecutorType;
+import io.mangoo.utils.ExecutorUtils;
+
+/**
+ * Compares the time it takes to complete 10,000 concurrent blocking requests of 50 ms
+ * on a worker pool sized like the default XNIO worker pool against the virtual executor.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=mangooio.benchmarks.BlockingExecutorBenchmark
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockingExecutorBenchmark {
+    private static final int REQUESTS = 10000;
+    private static final long BLOCKING_MILLIS = 50;
+    private ExecutorService executorService;
+
+    @Param({"worker", "virtual"})
+    private String executor;
+
+    @Setup
+    public void setup() {
+        if (ExecutorType.VIRTUAL == ExecutorType.fromString(this.executor)) {
+            this.executorService = ExecutorUtils.newVirtualThreadExecutor();
+            if (this.executorService == null) {
+                throw new IllegalStateException("Virtual threads are not supported by this JVM");
+            }
+        } else {
+            this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 8);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public long blockingRequests() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            this.executorService.execute(() -> {
+                try {
+                    Thread.sleep(BLOCKING_MILLIS);
+                } catch (InterruptedException e) { //NOSONAR
+                    Thread.currentThread().interrupt();
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+
+        return latch.getCount();
+    }
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BlockingExecutorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
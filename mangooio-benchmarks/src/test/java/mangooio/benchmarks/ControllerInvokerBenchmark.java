@@ -0,0 +1,130 @@
+package mangooio.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.mangoo.routing.ControllerInvoker;
+import io.mangoo.routing.Response;
+
+/**
+ * Compares the reflective Method.invoke path against the compiled ControllerInvoker
+ * for controller methods with 0, 1 and 5 parameters, and for 8 parameters, which exceeds
+ * the arity specific invokers and uses the spreading MethodHandle.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=mangooio.benchmarks.ControllerInvokerBenchmark
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerInvokerBenchmark {
+    private static final Response RESPONSE = Response.withOk();
+    private final BenchmarkController controller = new BenchmarkController();
+    private final Object [] oneArgument = new Object[] {"foo"};
+    private final Object [] fiveArguments = new Object[] {"foo", 1, 2L, 3.0, "bar"};
+    private final Object [] eightArguments = new Object[] {"foo", 1, 2L, 3.0, "bar", 4, 5L, "baz"};
+    private Method noParameterMethod;
+    private Method oneParameterMethod;
+    private Method fiveParameterMethod;
+    private Method eightParameterMethod;
+    private ControllerInvoker noParameterInvoker;
+    private ControllerInvoker oneParameterInvoker;
+    private ControllerInvoker fiveParameterInvoker;
+    private ControllerInvoker eightParameterInvoker;
+
+    public static class BenchmarkController {
+        public Response none() {
+            return RESPONSE;
+        }
+
+        public Response one(String foo) {
+            return RESPONSE;
+        }
+
+        public Response five(String foo, Integer bar, Long baz, Double qux, String quux) {
+            return RESPONSE;
+        }
+
+        public Response eight(String foo, Integer bar, Long baz, Double qux, String quux, Integer corge, Long grault, String garply) {
+            return RESPONSE;
+        }
+    }
+
+    @Setup
+    public void setup() throws NoSuchMethodException, IllegalAccessException {
+        this.noParameterMethod = BenchmarkController.class.getMethod("none");
+        this.oneParameterMethod = BenchmarkController.class.getMethod("one", String.class);
+        this.fiveParameterMethod = BenchmarkController.class.getMethod("five", String.class, Integer.class, Long.class, Double.class, String.class);
+        this.noParameterInvoker = new ControllerInvoker(this.noParameterMethod);
+        this.oneParameterInvoker = new ControllerInvoker(this.oneParameterMethod);
+        this.eightParameterMethod = BenchmarkController.class.getMethod("eight", String.class, Integer.class, Long.class, Double.class, String.class, Integer.class, Long.class, String.class);
+        this.fiveParameterInvoker = new ControllerInvoker(this.fiveParameterMethod);
+        this.eightParameterInvoker = new ControllerInvoker(this.eightParameterMethod);
+    }
+
+    @Benchmark
+    public Object reflectionNoParameter() throws IllegalAccessException, InvocationTargetException {
+        return this.noParameterMethod.invoke(this.controller);
+    }
+
+    @Benchmark
+    public Object invokerNoParameter() throws InvocationTargetException {
+        return this.noParameterInvoker.invoke(this.controller);
+    }
+
+    @Benchmark
+    public Object reflectionOneParameter() throws IllegalAccessException, InvocationTargetException {
+        return this.oneParameterMethod.invoke(this.controller, this.oneArgument);
+    }
+
+    @Benchmark
+    public Object invokerOneParameter() throws InvocationTargetException {
+        return this.oneParameterInvoker.invoke(this.controller, this.oneArgument);
+    }
+
+    @Benchmark
+    public Object reflectionFiveParameter() throws IllegalAccessException, InvocationTargetException {
+        return this.fiveParameterMethod.invoke(this.controller, this.fiveArguments);
+    }
+
+    @Benchmark
+    public Object invokerFiveParameter() throws InvocationTargetException {
+        return this.fiveParameterInvoker.invoke(this.controller, this.fiveArguments);
+    }
+
+    @Benchmark
+    public Object reflectionEightParameter() throws IllegalAccessException, InvocationTargetException {
+        return this.eightParameterMethod.invoke(this.controller, this.eightArguments);
+    }
+
+    @Benchmark
+    public Object invokerEightParameter() throws InvocationTargetException {
+        return this.eightParameterInvoker.invoke(this.controller, this.eightArguments);
+    }
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ControllerInvokerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
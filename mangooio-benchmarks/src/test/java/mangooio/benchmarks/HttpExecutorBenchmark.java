@@ -0,0 +1,171 @@
+package mangooio.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.mangoo.enums.ExecutorType;
+import io.mangoo.utils.ExecutorUtils;
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+
+/**
+ * Measures the time it takes an Undertow server to answer one request on each of many
+ * concurrent keep-alive connections, where every request blocks for 50 ms. The blocking
+ * handler is dispatched like a blocking route, either to the default XNIO worker pool or
+ * to the virtual executor.
+ *
+ * The virtual executor requires a JVM with virtual threads, setup fails otherwise.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=mangooio.benchmarks.HttpExecutorBenchmark
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HttpExecutorBenchmark {
+    private static final String HOST = "127.0.0.1";
+    private static final int PORT = 18765;
+    private static final long BLOCKING_MILLIS = 50;
+    private static final byte [] REQUEST = ("GET / HTTP/1.1\r\nHost: " + HOST + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+    private static final byte [] BODY = "ok".getBytes(StandardCharsets.US_ASCII);
+    private final List<Socket> sockets = new ArrayList<>();
+    private Undertow server;
+    private ExecutorService clients;
+
+    @Param({"worker", "virtual"})
+    private String executor;
+
+    @Param({"100", "1000"})
+    private int connections;
+
+    @Setup
+    public void setup() throws IOException {
+        final ExecutorService executorService;
+        if (ExecutorType.VIRTUAL == ExecutorType.fromString(this.executor)) {
+            executorService = ExecutorUtils.newVirtualThreadExecutor();
+            if (executorService == null) {
+                throw new IllegalStateException("Virtual threads are not supported by this JVM");
+            }
+        } else {
+            executorService = null;
+        }
+
+        final HttpHandler blocking = exchange -> {
+            Thread.sleep(BLOCKING_MILLIS);
+            exchange.getResponseSender().send(new String(BODY, StandardCharsets.US_ASCII));
+        };
+
+        this.server = Undertow.builder()
+                .addHttpListener(PORT, HOST)
+                .setHandler(exchange -> {
+                    if (executorService == null) {
+                        exchange.dispatch(blocking);
+                    } else {
+                        exchange.dispatch(executorService, blocking);
+                    }
+                })
+                .build();
+        this.server.start();
+
+        this.clients = Executors.newFixedThreadPool(this.connections);
+        for (int i = 0; i < this.connections; i++) {
+            final Socket socket = new Socket();
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(HOST, PORT));
+            this.sockets.add(socket);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (final Socket socket : this.sockets) {
+            socket.close();
+        }
+        this.sockets.clear();
+        this.clients.shutdownNow();
+        this.server.stop();
+    }
+
+    @Benchmark
+    public int concurrentRequests() throws InterruptedException, ExecutionException {
+        final List<Future<Integer>> futures = new ArrayList<>(this.connections);
+        for (final Socket socket : this.sockets) {
+            futures.add(this.clients.submit(() -> request(socket)));
+        }
+
+        int bytes = 0;
+        for (final Future<Integer> future : futures) {
+            bytes += future.get();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Sends a request on the given connection and reads the response up to the end of its body
+     */
+    private static int request(Socket socket) throws IOException {
+        final OutputStream outputStream = socket.getOutputStream();
+        outputStream.write(REQUEST);
+        outputStream.flush();
+
+        final InputStream inputStream = socket.getInputStream();
+        final StringBuilder headers = new StringBuilder();
+        while (headers.length() < 4 || headers.lastIndexOf("\r\n\r\n") != headers.length() - 4) {
+            final int read = inputStream.read();
+            if (read < 0) {
+                throw new IOException("Connection closed by server");
+            }
+            headers.append((char) read);
+        }
+
+        final String lowerCase = headers.toString().toLowerCase();
+        final int start = lowerCase.indexOf("content-length:") + "content-length:".length();
+        final int length = Integer.parseInt(lowerCase.substring(start, lowerCase.indexOf('\r', start)).trim());
+        for (int i = 0; i < length; i++) {
+            if (inputStream.read() < 0) {
+                throw new IOException("Connection closed by server");
+            }
+        }
+
+        return length;
+    }
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HttpExecutorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,287 @@
+package mangooio.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Provider;
+
+import io.mangoo.crypto.Crypto;
+import io.mangoo.enums.Required;
+import io.mangoo.i18n.Messages;
+import io.mangoo.interfaces.MangooFilter;
+import io.mangoo.models.Subject;
+import io.mangoo.routing.Attachment;
+import io.mangoo.routing.ControllerInvoker;
+import io.mangoo.routing.ParameterBinder;
+import io.mangoo.routing.Response;
+import io.mangoo.routing.RouteContext;
+import io.mangoo.routing.bindings.Authentication;
+import io.mangoo.routing.bindings.Flash;
+import io.mangoo.routing.bindings.Form;
+import io.mangoo.routing.bindings.Request;
+import io.mangoo.routing.bindings.Session;
+import io.mangoo.templating.TemplateEngine;
+
+/**
+ * Compares the per-request allocations of the framework before and after the route
+ * context was shared between requests.
+ *
+ * The baseline rebuilds the request setup of the original DispatcherHandler and
+ * RequestHandler: a Guice lookup of the controller, an attachment with its original
+ * field layout which copies all information of the route, an eagerly created form and
+ * an empty filter response. The shared path is the setup of the current DispatcherHandler
+ * for a route without filters. Allocations of Undertow and of the Request binding, which
+ * both paths create from the exchange, are not part of either benchmark.
+ *
+ * The allocated bytes per request are reported as gc.alloc.rate.norm by the GC profiler.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=mangooio.benchmarks.RequestAllocationBenchmark
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestAllocationBenchmark {
+    private final List<Annotation> annotations = new ArrayList<>();
+    private final Map<String, Class<?>> methodParameters = new LinkedHashMap<>();
+    private final Map<String, String> requestParameter = new HashMap<>();
+    private final ParameterBinder [] binders = new ParameterBinder[0];
+    private final MangooFilter [] filters = new MangooFilter[0];
+    private Injector injector;
+    private Provider<BenchmarkController> controllerProvider;
+    private Method method;
+    private RouteContext routeContext;
+
+    public static class BenchmarkController {
+        public Response index() {
+            return Response.withOk();
+        }
+    }
+
+    /**
+     * Field layout and builder of the attachment before the route context was shared
+     */
+    @SuppressWarnings("unused")
+    public static class BaselineAttachment {
+        private final long start = System.currentTimeMillis();
+        private int methodParametersCount;
+        private int limit;
+        private Class<?> controllerClass;
+        private Object controllerInstance;
+        private Map<String, Class<?>> methodParameters;
+        private String controllerClassName;
+        private String controllerMethodName;
+        private String body;
+        private String username;
+        private String password;
+        private Method method;
+        private Authentication authentication;
+        private Session session;
+        private Subject subject;
+        private Flash flash;
+        private Form form;
+        private Request request;
+        private Response response;
+        private Map<String, String> requestParameter;
+        private Crypto crypto;
+        private Messages messages;
+        private TemplateEngine templateEngine;
+        private boolean requestFilter;
+        private boolean timer;
+        private List<Annotation> classAnnotations;
+        private List<Annotation> methodAnnotations;
+        private Locale locale;
+
+        public static BaselineAttachment build() {
+            return new BaselineAttachment();
+        }
+
+        public BaselineAttachment withControllerInstance(Object controllerInstance) {
+            this.controllerInstance = Objects.requireNonNull(controllerInstance, Required.CONTROLLER_INSTANCE.toString());
+            return this;
+        }
+
+        public BaselineAttachment withControllerClass(Class<?> controllerClass) {
+            this.controllerClass = Objects.requireNonNull(controllerClass, Required.CONTROLLER_CLASS.toString());
+            return this;
+        }
+
+        public BaselineAttachment withControllerClassName(String controllerClassName) {
+            this.controllerClassName = Objects.requireNonNull(controllerClassName, Required.CONTROLLER_NAME.toString());
+            return this;
+        }
+
+        public BaselineAttachment withControllerMethodName(String controllerMethodName) {
+            this.controllerMethodName = Objects.requireNonNull(controllerMethodName, Required.CONTROLLER_METHOD.toString());
+            return this;
+        }
+
+        public BaselineAttachment withClassAnnotations(List<Annotation> classAnnotations) {
+            this.classAnnotations = classAnnotations;
+            return this;
+        }
+
+        public BaselineAttachment withMethodAnnotations(List<Annotation> methodAnnotations) {
+            this.methodAnnotations = methodAnnotations;
+            return this;
+        }
+
+        public BaselineAttachment withMethodParameters(Map<String, Class<?>> methodParameters) {
+            this.methodParameters = Objects.requireNonNull(methodParameters, Required.METHOD_PARAMETERS.toString());
+            return this;
+        }
+
+        public BaselineAttachment withMethod(Method method) {
+            this.method = Objects.requireNonNull(method, Required.METHOD.toString());
+            return this;
+        }
+
+        public BaselineAttachment withMethodParameterCount(int methodParametersCount) {
+            this.methodParametersCount = methodParametersCount;
+            return this;
+        }
+
+        public BaselineAttachment withRequestFilter(boolean requestFilter) {
+            this.requestFilter = requestFilter;
+            return this;
+        }
+
+        public BaselineAttachment withRequestParameter(Map<String, String> requestParameter) {
+            this.requestParameter = Objects.requireNonNull(requestParameter, Required.REQUEST_PARAMETER.toString());
+            return this;
+        }
+
+        public BaselineAttachment withMessages(Messages messages) {
+            this.messages = messages;
+            return this;
+        }
+
+        public BaselineAttachment withTimer(boolean timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        public BaselineAttachment withLimit(int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public BaselineAttachment withUsername(String username) {
+            this.username = username;
+            return this;
+        }
+
+        public BaselineAttachment withPassword(String password) {
+            this.password = password;
+            return this;
+        }
+
+        public BaselineAttachment withTemplateEngine(TemplateEngine templateEngine) {
+            this.templateEngine = templateEngine;
+            return this;
+        }
+
+        public BaselineAttachment withCrypto(Crypto crypto) {
+            this.crypto = crypto;
+            return this;
+        }
+
+        public void setForm(Form form) {
+            this.form = form;
+        }
+
+        public void setResponse(Response response) {
+            this.response = response;
+        }
+    }
+
+    @Setup
+    public void setup() throws NoSuchMethodException, IllegalAccessException {
+        this.injector = Guice.createInjector();
+        this.controllerProvider = this.injector.getProvider(BenchmarkController.class);
+        this.method = BenchmarkController.class.getMethod("index");
+        this.routeContext = RouteContext.build()
+                .withControllerClass(BenchmarkController.class)
+                .withControllerClassName(BenchmarkController.class.getSimpleName())
+                .withControllerMethodName(this.method.getName())
+                .withClassAnnotations(this.annotations)
+                .withMethodAnnotations(this.annotations)
+                .withMethodParameters(this.methodParameters)
+                .withBinders(this.binders)
+                .withMethod(this.method)
+                .withInvoker(new ControllerInvoker(this.method))
+                .withMethodParameterCount(0)
+                .withFilters(this.filters);
+    }
+
+    @Benchmark
+    public Object baselineAttachment() {
+        final BaselineAttachment attachment = BaselineAttachment.build()
+                .withControllerInstance(this.injector.getInstance(BenchmarkController.class))
+                .withControllerClass(BenchmarkController.class)
+                .withControllerClassName(BenchmarkController.class.getSimpleName())
+                .withControllerMethodName(this.method.getName())
+                .withClassAnnotations(this.annotations)
+                .withMethodAnnotations(this.annotations)
+                .withMethodParameters(this.methodParameters)
+                .withMethod(this.method)
+                .withMethodParameterCount(0)
+                .withRequestFilter(false)
+                .withRequestParameter(this.requestParameter)
+                .withMessages(null)
+                .withTimer(false)
+                .withLimit(0)
+                .withUsername(null)
+                .withPassword(null)
+                .withTemplateEngine(null)
+                .withCrypto(null);
+        attachment.setForm(this.injector.getInstance(Form.class));
+        attachment.setResponse(Response.withOk());
+
+        return attachment;
+    }
+
+    @Benchmark
+    public Object sharedAttachment() {
+        return Attachment.of(this.routeContext)
+                .withControllerInstance(this.controllerProvider.get())
+                .withRequestParameter(this.requestParameter);
+    }
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RequestAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,104 @@
+package mangooio.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.mangoo.routing.RouteTree;
+import io.undertow.server.HttpHandler;
+import io.undertow.util.PathTemplateMatcher;
+
+/**
+ * Compares the lookup cost of the mangoo RouteTree against the Undertow PathTemplateMatcher,
+ * which backs the Undertow RoutingHandler, for 10, 1,000 and 10,000 routes. Half of the routes
+ * are static, the other half contain two path parameters.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=mangooio.benchmarks.RouteTreeBenchmark
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteTreeBenchmark {
+    private static final HttpHandler HANDLER = exchange -> {};
+    private final RouteTree routeTree = new RouteTree();
+    private final PathTemplateMatcher<HttpHandler> pathTemplateMatcher = new PathTemplateMatcher<>();
+    private String staticPath;
+    private String parameterPath;
+    private String missingPath;
+
+    @Param({"10", "1000", "10000"})
+    private int routes;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < this.routes / 2; i++) {
+            final String staticUrl = "/api/static" + i + "/list";
+            final String parameterUrl = "/api/parameter" + i + "/{id}/items/{item}";
+
+            this.routeTree.add(staticUrl, HANDLER);
+            this.routeTree.add(parameterUrl, HANDLER);
+            this.pathTemplateMatcher.add(staticUrl, HANDLER);
+            this.pathTemplateMatcher.add(parameterUrl, HANDLER);
+        }
+
+        final int last = (this.routes / 2) - 1;
+        this.staticPath = "/api/static" + last + "/list";
+        this.parameterPath = "/api/parameter" + last + "/42/items/foo";
+        this.missingPath = "/api/missing/42";
+    }
+
+    @Benchmark
+    public Object routeTreeStatic() {
+        return this.routeTree.match(this.staticPath);
+    }
+
+    @Benchmark
+    public Object undertowStatic() {
+        return this.pathTemplateMatcher.match(this.staticPath);
+    }
+
+    @Benchmark
+    public Object routeTreeParameter() {
+        return this.routeTree.match(this.parameterPath);
+    }
+
+    @Benchmark
+    public Object undertowParameter() {
+        return this.pathTemplateMatcher.match(this.parameterPath);
+    }
+
+    @Benchmark
+    public Object routeTreeMissing() {
+        return this.routeTree.match(this.missingPath);
+    }
+
+    @Benchmark
+    public Object undertowMissing() {
+        return this.pathTemplateMatcher.match(this.missingPath);
+    }
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RouteTreeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
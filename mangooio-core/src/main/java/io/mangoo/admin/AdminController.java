@@ -27,6 +27,8 @@ import io.mangoo.enums.Template;
 import io.mangoo.exceptions.MangooSchedulerException;
 import io.mangoo.models.Job;
 import io.mangoo.models.Metrics;
+import io.mangoo.routing.AssetCache;
+import io.mangoo.routing.ConcurrencyLimiter;
 import io.mangoo.routing.Response;
 import io.mangoo.routing.Router;
 import io.mangoo.routing.bindings.Request;
@@ -167,6 +169,12 @@ public class AdminController {
                 .andContent("avgRequestTime", metrics.getAvgRequestTime())
                 .andContent("maxRequestTime", metrics.getMaxRequestTime())
                 .andContent("errorRate", errorRate)
+                .andContent("coalescedFallbacks", metrics.getCoalescedFallbacks())
+                .andContent("coalescedRequests", metrics.getCoalescedRequests())
+                .andContent("bulkheads", metrics.getBulkheads())
+                .andContent("timeouts", metrics.getTimeouts())
+                .andContent("limiter", Application.getInstance(ConcurrencyLimiter.class))
+                .andContent("assets", Application.getInstance(AssetCache.class))
                 .andTemplate(Template.DEFAULT.metricsPath());
     }
 
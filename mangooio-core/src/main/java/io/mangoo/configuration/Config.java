@@ -22,6 +22,7 @@ import com.google.inject.Singleton;
 import io.mangoo.core.Application;
 import io.mangoo.crypto.Crypto;
 import io.mangoo.enums.Default;
+import io.mangoo.enums.ExecutorType;
 import io.mangoo.enums.Key;
 import io.mangoo.enums.Mode;
 import io.mangoo.enums.Required;
@@ -384,6 +385,17 @@ public class Config {
         return StringUtils.isNotBlank(secret) && secret.length() >= Default.APPLICATION_SECRET_MIN_LENGTH.toInt();
     }
 
+    /**
+     * Checks if application.executor.routes and application.executor.execution are either
+     * undefined or name a known executor
+     *
+     * @return True if both executors are valid, false otherwise
+     */
+    public boolean hasValidExecutors() {
+        return ExecutorType.fromString(getString(Key.APPLICATION_EXECUTOR_ROUTES, ExecutorType.WORKER.toString())) != null
+                && ExecutorType.fromString(getString(Key.APPLICATION_EXECUTOR_EXECUTION, ExecutorType.WORKER.toString())) != null;
+    }
+
     /**
      * @return application.name from application.yaml
      */
@@ -538,6 +550,121 @@ public class Config {
         return getInt(Key.APPLICATION_THREADPOOL, Default.EXECUTION_THREADPOOL.toInt());
     }
 
+    /**
+     * @return application.timeout from application.yaml or default value if undefined
+     */
+    public long getTimeout() {
+        return getLong(Key.APPLICATION_TIMEOUT, Default.APPLICATION_TIMEOUT.toLong());
+    }
+
+    /**
+     * @param name The name of the pool
+     * @return application.pools.{name} from application.yaml or the execution pool size if undefined
+     */
+    public int getPoolSize(String name) {
+        return getInt(Key.APPLICATION_POOLS.toString() + "." + name, getExecutionPool());
+    }
+
+    /**
+     * @return application.limiter.enable from application.yaml or default value if undefined
+     */
+    public boolean isLimiterEnabled() {
+        return getBoolean(Key.APPLICATION_LIMITER_ENABLE, false);
+    }
+
+    /**
+     * @return application.limiter.initial from application.yaml or default value if undefined
+     */
+    public int getLimiterInitial() {
+        return getInt(Key.APPLICATION_LIMITER_INITIAL, Default.APPLICATION_LIMITER_INITIAL.toInt());
+    }
+
+    /**
+     * @return application.limiter.min from application.yaml or default value if undefined
+     */
+    public int getLimiterMin() {
+        return getInt(Key.APPLICATION_LIMITER_MIN, Default.APPLICATION_LIMITER_MIN.toInt());
+    }
+
+    /**
+     * @return application.limiter.max from application.yaml or default value if undefined
+     */
+    public int getLimiterMax() {
+        return getInt(Key.APPLICATION_LIMITER_MAX, Default.APPLICATION_LIMITER_MAX.toInt());
+    }
+
+    /**
+     * @return application.assets.cache.enable from application.yaml or default value if undefined
+     */
+    public boolean isAssetsCacheEnabled() {
+        return getBoolean(Key.APPLICATION_ASSETS_CACHE_ENABLE, true);
+    }
+
+    /**
+     * @return application.assets.cache.maxsize from application.yaml or default value if undefined
+     */
+    public long getAssetsCacheMaxSize() {
+        return getLong(Key.APPLICATION_ASSETS_CACHE_MAXSIZE, Default.APPLICATION_ASSETS_CACHE_MAXSIZE.toLong());
+    }
+
+    /**
+     * @return application.assets.cache.maxfilesize from application.yaml or default value if undefined
+     */
+    public long getAssetsCacheMaxFileSize() {
+        return getLong(Key.APPLICATION_ASSETS_CACHE_MAXFILESIZE, Default.APPLICATION_ASSETS_CACHE_MAXFILESIZE.toLong());
+    }
+
+    /**
+     * @return application.compression.enable from application.yaml or default value if undefined
+     */
+    public boolean isCompressionEnabled() {
+        return getBoolean(Key.APPLICATION_COMPRESSION_ENABLE, false);
+    }
+
+    /**
+     * @return application.compression.level from application.yaml or default value if undefined
+     */
+    public int getCompressionLevel() {
+        return getInt(Key.APPLICATION_COMPRESSION_LEVEL, Default.APPLICATION_COMPRESSION_LEVEL.toInt());
+    }
+
+    /**
+     * @return application.compression.minsize from application.yaml or default value if undefined
+     */
+    public int getCompressionMinSize() {
+        return getInt(Key.APPLICATION_COMPRESSION_MINSIZE, Default.APPLICATION_COMPRESSION_MINSIZE.toInt());
+    }
+
+    /**
+     * @return application.compression.mimetypes from application.yaml or default value if undefined
+     */
+    public String getCompressionMimeTypes() {
+        return getString(Key.APPLICATION_COMPRESSION_MIMETYPES, Default.APPLICATION_COMPRESSION_MIMETYPES.toString());
+    }
+
+    /**
+     * @return application.etag.algorithm from application.yaml or default value if undefined
+     */
+    public String getETagAlgorithm() {
+        return getString(Key.APPLICATION_ETAG_ALGORITHM, Default.APPLICATION_ETAG_ALGORITHM.toString());
+    }
+
+    /**
+     * @return application.executor.routes from application.yaml or default value if undefined
+     */
+    public ExecutorType getRoutesExecutor() {
+        final ExecutorType executorType = ExecutorType.fromString(getString(Key.APPLICATION_EXECUTOR_ROUTES, ExecutorType.WORKER.toString()));
+        return (executorType == null) ? ExecutorType.WORKER : executorType;
+    }
+
+    /**
+     * @return application.executor.execution from application.yaml or default value if undefined
+     */
+    public ExecutorType getExecutionExecutor() {
+        final ExecutorType executorType = ExecutorType.fromString(getString(Key.APPLICATION_EXECUTOR_EXECUTION, ExecutorType.WORKER.toString()));
+        return (executorType == null) ? ExecutorType.WORKER : executorType;
+    }
+
     /**
      * @return application.controller from application.yaml or default value if undefined
      */
@@ -595,6 +722,85 @@ public class Config {
         return getBoolean(Key.APPLICATION_ADMIN_ENABLE, false);
     }
 
+    /**
+     *
+     * @return undertow.maxentitysize or default value if undefined
+     */
+    public long getUndertowMaxEntitySize() {
+        return getLong(Key.UNDERTOW_MAX_ENTITY_SIZE, Default.UNDERTOW_MAX_ENTITY_SIZE.toLong());
+    }
+
+    /**
+     * @return undertow.iothreads or 0 if undefined
+     */
+    public int getUndertowIoThreads() {
+        return getInt(Key.UNDERTOW_IO_THREADS, 0);
+    }
+
+    /**
+     * @return undertow.workerthreads or 0 if undefined
+     */
+    public int getUndertowWorkerThreads() {
+        return getInt(Key.UNDERTOW_WORKER_THREADS, 0);
+    }
+
+    /**
+     * @return undertow.buffersize or 0 if undefined
+     */
+    public int getUndertowBufferSize() {
+        return getInt(Key.UNDERTOW_BUFFER_SIZE, 0);
+    }
+
+    /**
+     * @return undertow.directbuffers or default value if undefined
+     */
+    public boolean isUndertowDirectBuffers() {
+        return getBoolean(Key.UNDERTOW_DIRECT_BUFFERS, Default.UNDERTOW_DIRECT_BUFFERS.toBoolean());
+    }
+
+    /**
+     * @return undertow.idletimeout or 0 if undefined
+     */
+    public int getUndertowIdleTimeout() {
+        return getInt(Key.UNDERTOW_IDLE_TIMEOUT, 0);
+    }
+
+    /**
+     * @return undertow.norequesttimeout or 0 if undefined
+     */
+    public int getUndertowNoRequestTimeout() {
+        return getInt(Key.UNDERTOW_NO_REQUEST_TIMEOUT, 0);
+    }
+
+    /**
+     * @return undertow.maxheaders or 0 if undefined
+     */
+    public int getUndertowMaxHeaders() {
+        return getInt(Key.UNDERTOW_MAX_HEADERS, 0);
+    }
+
+    /**
+     * @return undertow.maxparameters or 0 if undefined
+     */
+    public int getUndertowMaxParameters() {
+        return getInt(Key.UNDERTOW_MAX_PARAMETERS, 0);
+    }
+
+    /**
+     * @return undertow.pipelining or default value if undefined
+     */
+    public boolean isUndertowPipelining() {
+        return getBoolean(Key.UNDERTOW_PIPELINING, Default.UNDERTOW_PIPELINING.toBoolean());
+    }
+
+    /**
+     *
+     * @return application.stateless.autodetect or default value if undefined
+     */
+    public boolean isStatelessAutodetect() {
+        return getBoolean(Key.APPLICATION_STATELESS_AUTODETECT, false);
+    }
+
     /**
      * @return smtp.host or default value if undefined
      */
@@ -664,6 +870,41 @@ public class Config {
     public int getConnectorAjpCPort() {
         return getInt(Key.CONNECTOR_AJP_PORT, 0);
     }
+
+    /**
+     * @return connector.https.host or null if undefined
+     */
+    public String getConnectorHttpsHost() {
+        return getString(Key.CONNECTOR_HTTPS_HOST, null);
+    }
+
+    /**
+     * @return connector.https.port or 0 if undefined
+     */
+    public int getConnectorHttpsPort() {
+        return getInt(Key.CONNECTOR_HTTPS_PORT, 0);
+    }
+
+    /**
+     * @return connector.https.keystore or null if undefined
+     */
+    public String getConnectorHttpsKeystore() {
+        return getString(Key.CONNECTOR_HTTPS_KEYSTORE, null);
+    }
+
+    /**
+     * @return connector.https.keystorepassword or null if undefined
+     */
+    public String getConnectorHttpsKeystorePassword() {
+        return getString(Key.CONNECTOR_HTTPS_KEYSTOREPASSWORD, null);
+    }
+
+    /**
+     * @return connector.http2 or false if undefined
+     */
+    public boolean isConnectorHttp2() {
+        return getBoolean(Key.CONNECTOR_HTTP2, false);
+    }
     
     /**
      * @return application.jwt.signkey or application secret if undefined
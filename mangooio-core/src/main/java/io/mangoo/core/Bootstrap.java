@@ -1,17 +1,25 @@
 package io.mangoo.core;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,16 +45,20 @@ import io.mangoo.configuration.Config;
 import io.mangoo.core.yaml.YamlRoute;
 import io.mangoo.core.yaml.YamlRouter;
 import io.mangoo.enums.Default;
+import io.mangoo.enums.ExecutorType;
 import io.mangoo.enums.Key;
 import io.mangoo.enums.Mode;
 import io.mangoo.enums.RouteType;
 import io.mangoo.exceptions.MangooSchedulerException;
 import io.mangoo.interfaces.MangooLifecycle;
+import io.mangoo.routing.AssetCache;
 import io.mangoo.routing.Route;
 import io.mangoo.routing.Router;
+import io.mangoo.routing.handlers.CompressionHandler;
 import io.mangoo.routing.handlers.DispatcherHandler;
 import io.mangoo.routing.handlers.ExceptionHandler;
 import io.mangoo.routing.handlers.FallbackHandler;
+import io.mangoo.routing.handlers.RouterHandler;
 import io.mangoo.routing.handlers.ServerSentEventHandler;
 import io.mangoo.routing.handlers.WebSocketHandler;
 import io.mangoo.scheduler.Scheduler;
@@ -56,10 +68,10 @@ import io.undertow.Handlers;
 import io.undertow.Undertow;
 import io.undertow.Undertow.Builder;
 import io.undertow.UndertowOptions;
-import io.undertow.server.RoutingHandler;
-import io.undertow.server.handlers.PathHandler;
+import io.undertow.server.HttpHandler;
 import io.undertow.server.handlers.resource.ClassPathResourceManager;
 import io.undertow.server.handlers.resource.ResourceHandler;
+import io.undertow.server.handlers.resource.ResourceManager;
 import io.undertow.util.HttpString;
 import io.undertow.util.Methods;
 
@@ -74,20 +86,21 @@ public class Bootstrap {
     private static volatile Logger LOG; //NOSONAR
     private static final int INITIAL_SIZE = 255;
     private final LocalDateTime start = LocalDateTime.now();
-    private final ResourceHandler resourceHandler;
     private Undertow undertow;
-    private PathHandler pathHandler;
+    private RouterHandler routerHandler;
     private Config config;
     private String httpHost;
+    private String httpsHost;
     private String ajpHost;
     private Mode mode;
     private Injector injector;
     private boolean error;
     private int httpPort;
+    private int httpsPort;
     private int ajpPort;
     
     public Bootstrap() {
-        this.resourceHandler = Handlers.resource(new ClassPathResourceManager(Thread.currentThread().getContextClassLoader(), Default.FILES_FOLDER.toString() + '/'));
+        //Empty constructor
     }
 
     public Mode prepareMode() {
@@ -159,6 +172,10 @@ public class Bootstrap {
             LOG.error("Please make sure that your application.yaml has an application.secret property which has at least 32 characters");
             this.error = true;
         }
+        if (!this.config.hasValidExecutors()) {
+            LOG.error("Invalid executor in application.yaml. Please use either 'worker' or 'virtual' for application.executor.routes and application.executor.execution");
+            this.error = true;
+        }
     }
 
     @SuppressWarnings("all")
@@ -183,7 +200,26 @@ public class Bootstrap {
                             .withAuthentication(yamlRoute.isAuthentication())
                             .withTimer(yamlRoute.isTimer())
                             .withLimit(yamlRoute.getLimit())
+                            .withStateless(yamlRoute.isStateless())
+                            .withMaxEntitySize(yamlRoute.getMaxEntitySize())
+                            .withIoThread(yamlRoute.isIoThread())
+                            .withCache(yamlRoute.getCache())
+                            .withStale(yamlRoute.getStale())
+                            .withVary(yamlRoute.getVary())
+                            .withCoalesce(yamlRoute.isCoalesce())
+                            .withTimeout(yamlRoute.getTimeout())
+                            .withPool(yamlRoute.getPool())
+                            .withValidator(yamlRoute.getValidator())
+                            .withHeaders(yamlRoute.getHeaders())
+                            .withConcurrency(yamlRoute.getConcurrency())
+                            .withQueue(yamlRoute.getQueue())
+                            .withExecutor(StringUtils.isBlank(yamlRoute.getExecutor()) ? this.config.getRoutesExecutor() : ExecutorType.fromString(yamlRoute.getExecutor()))
                             .allowBlocking(yamlRoute.isBlocking());
+
+                    if (route.getExecutor() == null) {
+                        LOG.error("Invalid executor '" + yamlRoute.getExecutor() + "' for route " + yamlRoute.getUrl() + " in routes.yaml. Please use either 'worker' or 'virtual'");
+                        this.error = true;
+                    }
                     
                     String mapping = yamlRoute.getMapping();   
                     try {
@@ -195,6 +231,9 @@ public class Bootstrap {
                                if (methodExists(mapped[1], route.getControllerClass())) {
                                    route.withMethod(mapped[1]);
                                }  
+                               if (StringUtils.isNotBlank(route.getValidator())) {
+                                   methodExists(route.getValidator(), route.getControllerClass());
+                               }
                            }
                        }
 
@@ -231,21 +270,53 @@ public class Bootstrap {
     }
 
     private void createRoutes() {
-        this.pathHandler = new PathHandler(getRoutingHandler());
+        this.routerHandler = getRouterHandler();
         for (final Route route : Router.getRoutes()) {
             if (RouteType.WEBSOCKET == route.getRouteType()) {
-                this.pathHandler.addExactPath(route.getUrl(), Handlers.websocket(new WebSocketHandler(route.getControllerClass(), route.isAuthenticationRequired())));
+                this.routerHandler.addExactPath(route.getUrl(), Handlers.websocket(new WebSocketHandler(route.getControllerClass(), route.isAuthenticationRequired())));
             } else if (RouteType.SERVER_SENT_EVENT == route.getRouteType()) {
-                this.pathHandler.addExactPath(route.getUrl(), Handlers.serverSentEvents(new ServerSentEventHandler(route.isAuthenticationRequired())));
+                this.routerHandler.addExactPath(route.getUrl(), Handlers.serverSentEvents(new ServerSentEventHandler(route.isAuthenticationRequired())));
             } else if (RouteType.RESOURCE_PATH == route.getRouteType()) {
-                this.pathHandler.addPrefixPath(route.getUrl(), new ResourceHandler(new ClassPathResourceManager(Thread.currentThread().getContextClassLoader(), Default.FILES_FOLDER.toString() + route.getUrl())));
+                this.routerHandler.addPrefixPath(route.getUrl(), getResourceHandler(new ResourceHandler(getResourceManager(route.getUrl()))));
             }
         }
     }
 
-    private RoutingHandler getRoutingHandler() {
-        final RoutingHandler routingHandler = Handlers.routing();
-        routingHandler.setFallbackHandler(Application.getInstance(FallbackHandler.class));
+    /**
+     * Creates the resource manager for static assets below the given path. Unless the
+     * application runs in dev mode, where assets are expected to change, the assets are
+     * served from the asset cache if it is enabled in application.yaml
+     *
+     * @param path The path of the assets below the files folder
+     * @return The ResourceManager for the assets
+     */
+    private ResourceManager getResourceManager(String path) {
+        final ResourceManager resourceManager = new ClassPathResourceManager(Thread.currentThread().getContextClassLoader(), Default.FILES_FOLDER.toString() + path);
+        if (this.config.isAssetsCacheEnabled() && this.mode != Mode.DEV) {
+            return Application.getInstance(AssetCache.class).cache(resourceManager, path);
+        }
+
+        return resourceManager;
+    }
+
+    /**
+     * Wraps the given resource handler with a compression handler if compression
+     * is enabled in application.yaml
+     *
+     * @param resourceHandler The ResourceHandler serving static assets
+     * @return The handler serving the static assets
+     */
+    private HttpHandler getResourceHandler(ResourceHandler resourceHandler) {
+        if (this.config.isCompressionEnabled()) {
+            return Application.getInstance(CompressionHandler.class).withNext(resourceHandler);
+        }
+
+        return resourceHandler;
+    }
+
+    private RouterHandler getRouterHandler() {
+        final RouterHandler routerHandler = new RouterHandler(Application.getInstance(FallbackHandler.class));
+        final HttpHandler fileHandler = getResourceHandler(Handlers.resource(getResourceManager("/")));
         
         if (this.config.isAdminEnabled()) {
             Router.addRoute(new Route(RouteType.REQUEST).toUrl("/@admin").withRequest(Methods.GET).withClass(AdminController.class).withMethod("index").useInternalTemplateEngine());
@@ -266,26 +337,48 @@ public class Bootstrap {
                         .withTimer(route.isTimerEnabled())
                         .withUsername(route.getUsername())
                         .withPassword(route.getPassword())
-                        .withLimit(route.getLimit());
-
-                routingHandler.add(route.getRequestMethod(),route.getUrl(), dispatcherHandler);
+                        .withLimit(route.getLimit())
+                        .withRequestMethod(route.getRequestMethod())
+                        .withStateless(route.isStateless())
+                        .withMaxEntitySize(route.getMaxEntitySize())
+                        .withIoThread(route.isIoThread())
+                        .withCache(route.getCache())
+                        .withStale(route.getStale())
+                        .withVary(route.getVary())
+                        .withCoalesce(route.isCoalesce())
+                        .withTimeout(route.getTimeout())
+                        .withPool(route.getPool())
+                        .withValidator(route.getValidator())
+                        .withHeaders(route.getHeaders())
+                        .withConcurrency(route.getConcurrency())
+                        .withQueue(route.getQueue())
+                        .withExecutor(route.getExecutor())
+                        .build();
+
+                routerHandler.add(route.getRequestMethod(),route.getUrl(), dispatcherHandler);
             } else if (RouteType.RESOURCE_FILE == route.getRouteType()) {
-                routingHandler.add(Methods.GET, route.getUrl(), this.resourceHandler);
+                routerHandler.add(Methods.GET, route.getUrl(), fileHandler);
             }
         });
 
-        return routingHandler;
+        return routerHandler;
     }
 
     public void startUndertow() {
         if (!bootstrapError()) {
             Builder builder = Undertow.builder()
-                    .setServerOption(UndertowOptions.MAX_ENTITY_SIZE, this.config.getLong(Key.UNDERTOW_MAX_ENTITY_SIZE, Default.UNDERTOW_MAX_ENTITY_SIZE.toLong()))
-                    .setHandler(Handlers.exceptionHandler(this.pathHandler).addExceptionHandler(Throwable.class, Application.getInstance(ExceptionHandler.class)));
+                    .setServerOption(UndertowOptions.MAX_ENTITY_SIZE, this.config.getUndertowMaxEntitySize())
+                    .setServerOption(UndertowOptions.ENABLE_HTTP2, this.config.isConnectorHttp2())
+                    .setServerOption(UndertowOptions.BUFFER_PIPELINED_DATA, this.config.isUndertowPipelining())
+                    .setDirectBuffers(this.config.isUndertowDirectBuffers())
+                    .setHandler(Handlers.exceptionHandler(this.routerHandler).addExceptionHandler(Throwable.class, Application.getInstance(ExceptionHandler.class)));
+            configureUndertow(builder);
 
             boolean hasConnector = false;
             this.httpHost = this.config.getConnectorHttpHost();
             this.httpPort = this.config.getConnectorHttpPort();
+            this.httpsHost = this.config.getConnectorHttpsHost();
+            this.httpsPort = this.config.getConnectorHttpsPort();
             this.ajpHost = this.config.getConnectorAjpHost();
             this.ajpPort = this.config.getConnectorAjpCPort();
             
@@ -294,6 +387,16 @@ public class Bootstrap {
                 hasConnector = true;
             }
             
+            if (this.httpsPort > 0 && StringUtils.isNotBlank(this.httpsHost)) {
+                final SSLContext sslContext = getSSLContext();
+                if (sslContext == null) {
+                    this.error = true;
+                    return;
+                }
+                builder.addHttpsListener(this.httpsPort, this.httpsHost, sslContext);
+                hasConnector = true;
+            }
+            
             if (this.ajpPort > 0 && StringUtils.isNotBlank(this.ajpHost)) {
                 builder.addAjpListener(this.ajpPort, this.ajpHost);
                 hasConnector = true;
@@ -304,11 +407,73 @@ public class Bootstrap {
                 this.undertow.start();
             } else {
                 this.error = true;
-                LOG.error("No connector found! Please configure either a HTTP or an AJP connector in your application.yaml");
+                LOG.error("No connector found! Please configure either a HTTP, a HTTPS or an AJP connector in your application.yaml");
             }
         }
     }
 
+    /**
+     * Applies the optional thread, buffer, timeout and limit settings from
+     * application.yaml, keeping the defaults of Undertow for undefined values
+     *
+     * @param builder The Undertow builder
+     */
+    private void configureUndertow(Builder builder) {
+        if (this.config.getUndertowIoThreads() > 0) {
+            builder.setIoThreads(this.config.getUndertowIoThreads());
+        }
+        if (this.config.getUndertowWorkerThreads() > 0) {
+            builder.setWorkerThreads(this.config.getUndertowWorkerThreads());
+        }
+        if (this.config.getUndertowBufferSize() > 0) {
+            builder.setBufferSize(this.config.getUndertowBufferSize());
+        }
+        if (this.config.getUndertowIdleTimeout() > 0) {
+            builder.setServerOption(UndertowOptions.IDLE_TIMEOUT, this.config.getUndertowIdleTimeout());
+        }
+        if (this.config.getUndertowNoRequestTimeout() > 0) {
+            builder.setServerOption(UndertowOptions.NO_REQUEST_TIMEOUT, this.config.getUndertowNoRequestTimeout());
+        }
+        if (this.config.getUndertowMaxHeaders() > 0) {
+            builder.setServerOption(UndertowOptions.MAX_HEADERS, this.config.getUndertowMaxHeaders());
+        }
+        if (this.config.getUndertowMaxParameters() > 0) {
+            builder.setServerOption(UndertowOptions.MAX_PARAMETERS, this.config.getUndertowMaxParameters());
+        }
+    }
+
+    /**
+     * Creates the SSL context of the HTTPS connector from the keystore configured
+     * in application.yaml
+     *
+     * @return The SSLContext or null if the keystore could not be loaded
+     */
+    private SSLContext getSSLContext() {
+        final String keystore = this.config.getConnectorHttpsKeystore();
+        if (StringUtils.isBlank(keystore)) {
+            LOG.error("HTTPS connector requires a keystore. Please configure connector.https.keystore in your application.yaml");
+            return null;
+        }
+
+        final char [] password = StringUtils.defaultString(this.config.getConnectorHttpsKeystorePassword()).toCharArray();
+        try (InputStream inputStream = Files.newInputStream(Paths.get(keystore))) {
+            final KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            keyStore.load(inputStream, password);
+
+            final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagerFactory.init(keyStore, password);
+
+            final SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+
+            return sslContext;
+        } catch (IOException | GeneralSecurityException e) {
+            LOG.error("Failed to load keystore for HTTPS connector from " + keystore, e);
+        }
+
+        return null;
+    }
+
     private List<Module> getModules() {
         final List<Module> modules = new ArrayList<>();
         if (!bootstrapError()) {
@@ -341,10 +506,18 @@ public class Bootstrap {
                 LOG.info("HTTP connector listening @{}:{}", this.httpHost, this.httpPort);
             }
             
+            if (this.httpsPort > 0 && StringUtils.isNotBlank(this.httpsHost)) {
+                LOG.info("HTTPS connector listening @{}:{}", this.httpsHost, this.httpsPort);
+            }
+            
             if (this.ajpPort > 0 && StringUtils.isNotBlank(this.ajpHost)) {
                 LOG.info("AJP connector listening @{}:{}", this.ajpHost, this.ajpPort);
             }
             
+            if (this.config.isConnectorHttp2()) {
+                LOG.info("HTTP/2 enabled");
+            }
+            
             LOG.info("mangoo I/O application started in {} ms in {} mode. Enjoy.", ChronoUnit.MILLIS.between(this.start, LocalDateTime.now()), this.mode.toString());
         }
     }
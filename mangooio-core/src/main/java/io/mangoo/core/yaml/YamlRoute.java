@@ -1,5 +1,12 @@
 package io.mangoo.core.yaml;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * 
  * @author sven.kubiak
@@ -11,10 +18,26 @@ public class YamlRoute {
     private String mapping;
     private String username;
     private String password;
+    private String executor;
+    private String pool;
+    private String validator;
     private int limit;
+    private int cache;
+    private int stale;
+    private int concurrency;
+    private int queue;
+    private List<String> vary = new ArrayList<>();
+    private Map<String, String> headers = new HashMap<>();
     private boolean blocking;
     private boolean authentication;
     private boolean timer;
+    private boolean stateless;
+    private boolean coalesce;
+    @JsonProperty("iothread")
+    private boolean ioThread;
+    @JsonProperty("maxentitysize")
+    private long maxEntitySize;
+    private long timeout;
     
     public String getMethod() {
         return method;
@@ -87,4 +110,116 @@ public class YamlRoute {
     public void setTimer(boolean timer) {
         this.timer = timer;
     }
-}
\ No newline at end of file
+    
+    public boolean isStateless() {
+        return stateless;
+    }
+    
+    public void setStateless(boolean stateless) {
+        this.stateless = stateless;
+    }
+    
+    public String getExecutor() {
+        return executor;
+    }
+    
+    public void setExecutor(String executor) {
+        this.executor = executor;
+    }
+    
+    public String getPool() {
+        return pool;
+    }
+    
+    public void setPool(String pool) {
+        this.pool = pool;
+    }
+    
+    public int getConcurrency() {
+        return concurrency;
+    }
+    
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+    
+    public int getQueue() {
+        return queue;
+    }
+    
+    public void setQueue(int queue) {
+        this.queue = queue;
+    }
+    
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+    
+    public void setCoalesce(boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+    
+    public boolean isIoThread() {
+        return ioThread;
+    }
+    
+    public void setIoThread(boolean ioThread) {
+        this.ioThread = ioThread;
+    }
+    
+    public long getMaxEntitySize() {
+        return maxEntitySize;
+    }
+    
+    public void setMaxEntitySize(long maxEntitySize) {
+        this.maxEntitySize = maxEntitySize;
+    }
+    
+    public int getCache() {
+        return cache;
+    }
+    
+    public void setCache(int cache) {
+        this.cache = cache;
+    }
+    
+    public long getTimeout() {
+        return timeout;
+    }
+    
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+    
+    public int getStale() {
+        return stale;
+    }
+    
+    public void setStale(int stale) {
+        this.stale = stale;
+    }
+    
+    public List<String> getVary() {
+        return vary;
+    }
+    
+    public void setVary(List<String> vary) {
+        this.vary = vary;
+    }
+
+    public String getValidator() {
+        return validator;
+    }
+
+    public void setValidator(String validator) {
+        this.validator = validator;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+}
@@ -23,6 +23,7 @@ public enum Binding {
     REQUEST("io.mangoo.routing.bindings.Request"),
     SESSION("io.mangoo.routing.bindings.Session"),
     STRING("java.lang.String"),
+    STRING_ARRAY("[Ljava.lang.String;"),
     UNDEFINED("undefined");
 
     private final String value;
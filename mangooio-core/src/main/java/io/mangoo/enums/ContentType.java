@@ -8,8 +8,10 @@ package io.mangoo.enums;
  */
 public enum ContentType {
     APPLICATION_JSON("application/json"),
+    APPLICATION_NDJSON("application/x-ndjson"),
     APPLICATION_OCTET_STREAM("application/octet-stream"),
     APPLICATION_X_WWW_FORM_URLENCODED("application/x-www-form-urlencoded"),
+    TEXT_CSV("text/csv"),
     TEXT_HTML("text/html"),
     TEXT_PLAIN("text/plain");
 
@@ -8,7 +8,13 @@ package io.mangoo.enums;
  *
  */
 public enum Default {
+    APPLICATION_ASSETS_CACHE_MAXFILESIZE("4194304"),
+    APPLICATION_ASSETS_CACHE_MAXSIZE("67108864"),
+    APPLICATION_COMPRESSION_LEVEL("6"),
+    APPLICATION_COMPRESSION_MIMETYPES("text/html,text/plain,text/css,text/xml,text/javascript,application/javascript,application/json,application/xml,image/svg+xml"),
+    APPLICATION_COMPRESSION_MINSIZE("1024"),
     APPLICATION_CONTROLLER("controllers."),
+    APPLICATION_ETAG_ALGORITHM("md5"),
     APPLICATION_HEADERS_CONTENTSECURITYPOLICY(""),
     APPLICATION_HEADERS_REFERERPOLICY("no-referrer"),
     APPLICATION_HEADERS_SERVER("Undertow"),
@@ -16,8 +22,12 @@ public enum Default {
     APPLICATION_HEADERS_XFRAMEOPTIONS("DENY"),
     APPLICATION_HEADERS_XSSPROTECTION("1"),
     APPLICATION_JWT_ENCRYPT("false"),
+    APPLICATION_LIMITER_INITIAL("20"),
+    APPLICATION_LIMITER_MAX("1000"),
+    APPLICATION_LIMITER_MIN("10"),
     APPLICATION_SECRET_MIN_LENGTH("32"),
     APPLICATION_TEST_MASTERKEY("f8%q8G6Px8vxn7Tl%2P40vyT9e8KeTJ9"),
+    APPLICATION_TIMEOUT("30000"),
     ASSETS_PATH("src/main/resources/files/assets/"),
     AUTH_COOKIE_ENCRYPT("false"),
     AUTH_COOKIE_EXPIRES("3600"),
@@ -71,7 +81,9 @@ public enum Default {
     STYLESHEET_FOLDER("stylesheet"),
     TEMPLATE_ENGINE_CLASS("io.mangoo.templating.freemarker.TemplateEngineFreemarker"),
     TEMPLATES_FOLDER("/templates/"),
+    UNDERTOW_DIRECT_BUFFERS("true"),
     UNDERTOW_MAX_ENTITY_SIZE("4194304"),
+    UNDERTOW_PIPELINING("false"),
     VERSION("unknown"),
     VERSION_PROPERTIES("version.properties"),
     WSS_CACHE_PREFIX("MANGOOIO-WSS-");
@@ -0,0 +1,44 @@
+package io.mangoo.enums;
+
+import java.util.Locale;
+
+/**
+ * Executors a blocking request or a task can be executed on
+ *
+ * @author svenkubiak
+ *
+ */
+public enum ExecutorType {
+    VIRTUAL("virtual"),
+    WORKER("worker");
+
+    private final String value;
+
+    ExecutorType (String value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the executor type for a given value
+     *
+     * @param value The value, e.g. virtual
+     * @return The matching ExecutorType or null if the value is unknown
+     */
+    public static ExecutorType fromString(String value) {
+        if (value != null) {
+            final String type = value.trim().toLowerCase(Locale.ENGLISH);
+            for (final ExecutorType executorType : ExecutorType.values()) {
+                if (executorType.value.equals(type)) {
+                    return executorType;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+}
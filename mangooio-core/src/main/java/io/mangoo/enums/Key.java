@@ -10,8 +10,18 @@ public enum Key {
     APPLICATION_ADMIN_ENABLE("application.admin.enable"),
     APPLICATION_ADMIN_PASSWORD("application.admin.password"),
     APPLICATION_ADMIN_USERNAME("application.admin.username"),
+    APPLICATION_ASSETS_CACHE_ENABLE("application.assets.cache.enable"),
+    APPLICATION_ASSETS_CACHE_MAXFILESIZE("application.assets.cache.maxfilesize"),
+    APPLICATION_ASSETS_CACHE_MAXSIZE("application.assets.cache.maxsize"),
+    APPLICATION_COMPRESSION_ENABLE("application.compression.enable"),
+    APPLICATION_COMPRESSION_LEVEL("application.compression.level"),
+    APPLICATION_COMPRESSION_MIMETYPES("application.compression.mimetypes"),
+    APPLICATION_COMPRESSION_MINSIZE("application.compression.minsize"),
     APPLICATION_CONFIG("application.config"),
     APPLICATION_CONTROLLER("application.controller"),
+    APPLICATION_ETAG_ALGORITHM("application.etag.algorithm"),
+    APPLICATION_EXECUTOR_EXECUTION("application.executor.execution"),
+    APPLICATION_EXECUTOR_ROUTES("application.executor.routes"),
     APPLICATION_HEADERS_CONTENTSECURITYPOLICY("application.headers.contentsecuritypolicy"),
     APPLICATION_HEADERS_REFERERPOLICY("application.headers.refererpolicy"),
     APPLICATION_HEADERS_SERVER("application.headers.server"),
@@ -22,17 +32,24 @@ public enum Key {
     APPLICATION_JWT_ENCRYPTION_KEY("application.jwt.encryptionkey"),
     APPLICATION_JWT_SIGNKEY("application.jwt.signkey"),
     APPLICATION_LANGUAGE("application.language"),
+    APPLICATION_LIMITER_ENABLE("application.limiter.enable"),
+    APPLICATION_LIMITER_INITIAL("application.limiter.initial"),
+    APPLICATION_LIMITER_MAX("application.limiter.max"),
+    APPLICATION_LIMITER_MIN("application.limiter.min"),
     APPLICATION_LOG("application.log"),
     APPLICATION_MASTERKEY("application.masterkey"),
     APPLICATION_MINIFY_CSS("application.minify.css"),
     APPLICATION_MINIFY_JS("application.minify.js"),
     APPLICATION_MODE("application.mode"),
     APPLICATION_NAME("application.name"),
+    APPLICATION_POOLS("application.pools"),
     APPLICATION_PREPROCESS_LESS("application.preprocess.less"),   
     APPLICATION_PREPROCESS_SASS("application.preprocess.sass"),
     APPLICATION_SECRET("application.secret"),
+    APPLICATION_STATELESS_AUTODETECT("application.stateless.autodetect"),
     APPLICATION_TEMPLATEENGINE("application.templateengine"),
     APPLICATION_THREADPOOL("application.threadpool"),
+    APPLICATION_TIMEOUT("application.timeout"),
     AUTH_COOKIE_ENCRYPT("auth.cookie.encrypt"),
     AUTH_COOKIE_EXPIRES("auth.cookie.expires"),
     AUTH_COOKIE_NAME("auth.cookie.name"),
@@ -47,6 +64,11 @@ public enum Key {
     CONNECTOR_AJP_PORT("connector.ajp.port"),
     CONNECTOR_HTTP_HOST("connector.http.host"),
     CONNECTOR_HTTP_PORT("connector.http.port"),
+    CONNECTOR_HTTP2("connector.http2"),
+    CONNECTOR_HTTPS_HOST("connector.https.host"),
+    CONNECTOR_HTTPS_KEYSTORE("connector.https.keystore"),
+    CONNECTOR_HTTPS_KEYSTOREPASSWORD("connector.https.keystorepassword"),
+    CONNECTOR_HTTPS_PORT("connector.https.port"),
     COOKIE_ENCRYPTION("cookie.encryption"),
     COOKIE_EXPIRES("cookie.expires"),
     COOKIE_I18N_NAME("cookie.i18n.name"),
@@ -72,7 +94,16 @@ public enum Key {
     SMTP_SSL("smtp.ssl"),
     SMTP_USERNAME("smtp.username"),
     SUCCESS("success"),
+    UNDERTOW_BUFFER_SIZE("undertow.buffersize"),
+    UNDERTOW_DIRECT_BUFFERS("undertow.directbuffers"),
+    UNDERTOW_IDLE_TIMEOUT("undertow.idletimeout"),
+    UNDERTOW_IO_THREADS("undertow.iothreads"),
     UNDERTOW_MAX_ENTITY_SIZE("undertow.maxentitysize"),
+    UNDERTOW_MAX_HEADERS("undertow.maxheaders"),
+    UNDERTOW_MAX_PARAMETERS("undertow.maxparameters"),
+    UNDERTOW_NO_REQUEST_TIMEOUT("undertow.norequesttimeout"),
+    UNDERTOW_PIPELINING("undertow.pipelining"),
+    UNDERTOW_WORKER_THREADS("undertow.workerthreads"),
     VALIDATION_DOMAIN_NAME("validation.domainname"),
     VALIDATION_EMAIL("validation.email"),
     VALIDATION_EXACT_MATCH("validation.exactmatch"),
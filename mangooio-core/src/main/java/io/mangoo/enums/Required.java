@@ -8,6 +8,7 @@ package io.mangoo.enums;
 public enum Required {
     ACCOUNT_NAME("account name can not be null"),
     APPLICATION_SECRET("application secret can not be null"),
+    ASSET_CACHE("asset cache can not be null"),
     AUTHENTICITY("authenticity can not be null"),
     BCC_RECIPIENT("bcc recipient can not be null"),
     BODY("body can not be null"),
@@ -17,6 +18,7 @@ public enum Required {
     CHARSET("charset can not be null"),
     CLASS("class can not be null"),
     COMPONENT_TYPE("component type can not be null"),
+    COMPRESSOR("compressor can not be null"),
     CONFIG("config can not be null"),
     CONFIG_FILE("config file can not be null"),
     CONNECTION("connection can not be null"),
@@ -36,6 +38,7 @@ public enum Required {
     EVENT_CALLBACK("event callback can not be null"),
     EXPIRES("expires can not be null"),
     FILE("file can not be null"),
+    FILTERS("filters can not be null"),
     FROM("from can not be null"),
     GROUP_NAME("group name can not be null"),
     HASH("hash can not be null"),
@@ -43,6 +46,7 @@ public enum Required {
     HTTP_HANDLER("httpHandler can not be null"),
     HTTP_SERVER_EXCHANGE("httpServerExchange can not be null"),
     IDENTITY("identity can not be null"),
+    ITERATOR("iterator can not be null"),
     JOB_DETAIL("job detail can not be null"),
     JSON("json can not be null"),
     JSON_OBJECT("json object can not be null"),
@@ -54,6 +58,7 @@ public enum Required {
     MESSAGES("messages can not be null"),
     METHOD("method can not be null"),
     METHOD_PARAMETERS("method parameters can not be null"),
+    METRICS("metrics can not be null"),
     MODE("mode can not be null"),
     NAME("name can not be null"),
     OAUTH_PROVIDER("OAuthProvider can not be null"),
@@ -65,6 +70,7 @@ public enum Required {
     RECIPIENT("recipient can not be null"),
     REDIRECT_TO("redirect to can not be null"),
     REQUEST_PARAMETER("request parameter can not be null"),
+    RESOURCE_MANAGER("resource manager can not be null"),
     RESPONSE("response can not be null"),
     ROUTE("route can not be null"),
     ROUTE_TYPE("route type can not be null"),
@@ -74,6 +80,7 @@ public enum Required {
     SOURCE_PATH("source path can not be null"),
     STACK_TRACE_ELEMENT("stack trace element can not be null"),
     START("start can not be null"),
+    STREAM("stream can not be null"),
     SUBJECT("subject can not be null"),
     TEMPLATE("template can not be null"),
     TEMPLATE_ENGINE("tempalte engine can not be null"),
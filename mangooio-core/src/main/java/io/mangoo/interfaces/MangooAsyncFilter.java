@@ -0,0 +1,23 @@
+package io.mangoo.interfaces;
+
+import java.util.concurrent.CompletionStage;
+
+import io.mangoo.routing.Response;
+import io.mangoo.routing.bindings.Request;
+
+/**
+ * Filter which completes its response asynchronously. The request is suspended
+ * until the returned stage is completed.
+ *
+ * @author svenkubiak
+ *
+ */
+@FunctionalInterface
+public interface MangooAsyncFilter extends MangooFilter {
+    public CompletionStage<Response> executeAsync(Request request, Response response);
+
+    @Override
+    public default Response execute(Request request, Response response) {
+        return executeAsync(request, response).toCompletableFuture().join();
+    }
+}
@@ -4,6 +4,8 @@ import io.mangoo.routing.Response;
 import io.mangoo.routing.bindings.Request;
 
 /**
+ * Filter executed before the filters of every route. A request filter which also
+ * implements MangooAsyncFilter completes its response asynchronously.
  *
  * @author svenkubiak
  *
@@ -0,0 +1,25 @@
+package io.mangoo.interfaces;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Produces the body of a streamed response chunk by chunk. The stream is called again
+ * for the next chunk once the previous chunk has been written to the client, so a slow
+ * client throttles the producer instead of the response being buffered in memory.
+ *
+ * @author svenkubiak
+ *
+ */
+@FunctionalInterface
+public interface MangooStream {
+    /**
+     * Writes the next chunk of the response
+     *
+     * @param chunk The empty buffer to write the next chunk to
+     * @return True if more chunks follow, false if the response is complete
+     *
+     * @throws IOException If the chunk could not be produced
+     */
+    public boolean write(ByteArrayOutputStream chunk) throws IOException;
+}
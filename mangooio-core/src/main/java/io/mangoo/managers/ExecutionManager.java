@@ -5,10 +5,15 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import com.google.inject.Singleton;
 
 import io.mangoo.configuration.Config;
 import io.mangoo.core.Application;
+import io.mangoo.enums.ExecutorType;
+import io.mangoo.utils.ExecutorUtils;
 
 /**
  *
@@ -17,11 +22,20 @@ import io.mangoo.core.Application;
  */
 @Singleton
 public class ExecutionManager {
+    private static final Logger LOG = LogManager.getLogger(ExecutionManager.class);
     private static final Config CONFIG = Application.getConfig();
     private final ExecutorService executorService;
 
     public ExecutionManager() {
-        this.executorService = Executors.newFixedThreadPool(CONFIG.getExecutionPool());
+        ExecutorService virtualExecutor = null;
+        if (ExecutorType.VIRTUAL == CONFIG.getExecutionExecutor()) {
+            virtualExecutor = ExecutorUtils.newVirtualThreadExecutor();
+            if (virtualExecutor == null) {
+                LOG.warn("Virtual threads are not supported by this JVM. Using the execution pool instead");
+            }
+        }
+
+        this.executorService = (virtualExecutor == null) ? Executors.newFixedThreadPool(CONFIG.getExecutionPool()) : virtualExecutor;
     }
 
     /**
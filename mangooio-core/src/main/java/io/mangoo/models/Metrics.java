@@ -1,13 +1,17 @@
 package io.mangoo.models;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.LongAdder;
 
 import com.google.inject.Singleton;
 
+import io.mangoo.routing.Bulkhead;
+
 /**
  * Base class for counting system metrics
  *
@@ -21,6 +25,10 @@ public class Metrics {
     private final AtomicLongFieldUpdater<Metrics> totalRequestTimeUpdater = AtomicLongFieldUpdater.newUpdater(Metrics.class, "totalRequestTime");
     private final AtomicLongFieldUpdater<Metrics> totalRequestsUpdater = AtomicLongFieldUpdater.newUpdater(Metrics.class, "totalRequests");
     private final Map<Integer, LongAdder> metricsCount = new ConcurrentHashMap<>(16, 0.9f, 1);
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> timeouts = new ConcurrentSkipListMap<>();
+    private final LongAdder coalescedFallbacks = new LongAdder();
+    private final LongAdder coalescedRequests = new LongAdder();
     private volatile long avgRequestTime;
     private volatile long totalRequestTime;
     private volatile long totalRequests;
@@ -65,6 +73,48 @@ public class Metrics {
         this.avgRequestTime = this.totalRequestTime / this.totalRequests;
     }
 
+    /**
+     * Counts a request which waited for an identical concurrent request, but had to be
+     * executed as the response of that request could not be shared
+     */
+    public void incCoalescedFallback() {
+        this.coalescedFallbacks.increment();
+    }
+
+    /**
+     * Counts a request which received the response of an identical concurrent request
+     */
+    public void incCoalescedRequest() {
+        this.coalescedRequests.increment();
+    }
+
+    /**
+     * Registers the bulkhead of a route to expose its counts
+     *
+     * @param route The name of the route
+     * @param bulkhead The bulkhead of the route
+     */
+    public void addBulkhead(String route, Bulkhead bulkhead) {
+        this.bulkheads.put(route, bulkhead);
+    }
+
+    /**
+     * Counts a request which exceeded the deadline of its route
+     *
+     * @param route The name of the route
+     */
+    public void incTimeout(String route) {
+        this.timeouts.computeIfAbsent(route, t -> new LongAdder()).increment();
+    }
+
+    public Map<String, LongAdder> getTimeouts() {
+        return Collections.unmodifiableMap(this.timeouts);
+    }
+
+    public Map<String, Bulkhead> getBulkheads() {
+        return Collections.unmodifiableMap(this.bulkheads);
+    }
+
     public Map<Integer, LongAdder> getMetrics() {
         return this.metricsCount;
     }
@@ -80,4 +130,12 @@ public class Metrics {
     public long getAvgRequestTime() {
         return avgRequestTime;
     }
+
+    public long getCoalescedFallbacks() {
+        return this.coalescedFallbacks.sum();
+    }
+
+    public long getCoalescedRequests() {
+        return this.coalescedRequests.sum();
+    }
 }
\ No newline at end of file
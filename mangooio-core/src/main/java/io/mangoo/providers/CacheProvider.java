@@ -8,6 +8,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.ehcache.CacheManager;
 import org.ehcache.PersistentCacheManager;
+import org.ehcache.ValueSupplier;
 import org.ehcache.clustered.client.config.builders.ClusteringServiceConfigurationBuilder;
 import org.ehcache.config.CacheConfiguration;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
@@ -15,6 +16,7 @@ import org.ehcache.config.builders.CacheManagerBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
 import org.ehcache.expiry.Duration;
 import org.ehcache.expiry.Expirations;
+import org.ehcache.expiry.Expiry;
 
 import com.google.inject.Inject;
 import com.google.inject.Provider;
@@ -24,6 +26,7 @@ import io.mangoo.cache.Cache;
 import io.mangoo.cache.CacheImpl;
 import io.mangoo.configuration.Config;
 import io.mangoo.enums.CacheName;
+import io.mangoo.routing.CachedResponse;
 
 /**
  * 
@@ -54,6 +57,7 @@ public class CacheProvider implements Provider<Cache> {
         initApplicationCache();
         initAuthenticationCache();
         initRequestCache();
+        initResponseCache();
         initServerEventCache();
         initWebSocketCache();
     }
@@ -84,6 +88,15 @@ public class CacheProvider implements Provider<Cache> {
         registerCacheConfiguration(CacheName.REQUEST.toString(), configuration);
     }
 
+    private void initResponseCache() {
+        CacheConfiguration<String, Object> configuration = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(String.class, Object.class, ResourcePoolsBuilder.heap(10000))
+                .withExpiry(new ResponseExpiry())
+                .build();
+
+        registerCacheConfiguration(CacheName.RESPONSE.toString(), configuration);
+    }
+
     private void initServerEventCache() {
         CacheConfiguration<String, Object> configuration = CacheConfigurationBuilder
                 .newCacheConfigurationBuilder(String.class, Object.class, ResourcePoolsBuilder.heap(20000))
@@ -140,4 +153,32 @@ public class CacheProvider implements Provider<Cache> {
     public void close() {
         cacheManager.close();
     }
-}
\ No newline at end of file
+
+    /**
+     * Expires each cached response after the time to live of its route plus the time it may be served stale
+     */
+    private static class ResponseExpiry implements Expiry<String, Object> {
+        @Override
+        public Duration getExpiryForCreation(String key, Object value) {
+            return getExpiry(value);
+        }
+
+        @Override
+        public Duration getExpiryForAccess(String key, ValueSupplier<? extends Object> value) {
+            return null;
+        }
+
+        @Override
+        public Duration getExpiryForUpdate(String key, ValueSupplier<? extends Object> oldValue, Object newValue) {
+            return getExpiry(newValue);
+        }
+
+        private static Duration getExpiry(Object value) {
+            if (value instanceof CachedResponse && ((CachedResponse) value).getTtl() > 0) {
+                return Duration.of(((CachedResponse) value).getTtl(), TimeUnit.SECONDS);
+            }
+
+            return Duration.INFINITE;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package io.mangoo.routing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.mangoo.configuration.Config;
+import io.mangoo.enums.Required;
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.RangeAwareResource;
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.server.handlers.resource.ResourceChangeEvent;
+import io.undertow.server.handlers.resource.ResourceChangeListener;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.util.DateUtils;
+import io.undertow.util.ETag;
+import io.undertow.util.MimeMappings;
+
+/**
+ * Size-bounded cache of static assets. Assets are loaded on first access into direct
+ * buffers, or memory-mapped if they are plain files, and sent from there without touching
+ * the classpath again. The ETag of each asset is computed once from its content, so
+ * conditional requests are answered with 304 by the ResourceHandler.
+ *
+ * Once the cache is full, the least recently used assets are evicted until a newly loaded
+ * asset fits. Assets exceeding the maximum file size are always served by the underlying
+ * resource manager. If the underlying resource manager reports changes, changed assets are
+ * removed from the cache.
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class AssetCache {
+    private static final Logger LOG = LogManager.getLogger(AssetCache.class);
+    private static final String FILE_PROTOCOL = "file";
+    private final Map<String, Asset> assets = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+    private final long maxSize;
+    private final long maxFileSize;
+
+    @Inject
+    public AssetCache(Config config) {
+        Objects.requireNonNull(config, Required.CONFIG.toString());
+
+        this.maxSize = config.getAssetsCacheMaxSize();
+        this.maxFileSize = config.getAssetsCacheMaxFileSize();
+    }
+
+    /**
+     * Creates a resource manager which serves the assets of the given resource manager from the cache
+     *
+     * @param resourceManager The resource manager to load the assets from
+     * @param base The base path of the resource manager, used to tell the assets of different managers apart
+     * @return A caching resource manager
+     */
+    public ResourceManager cache(ResourceManager resourceManager, String base) {
+        Objects.requireNonNull(resourceManager, Required.RESOURCE_MANAGER.toString());
+        Objects.requireNonNull(base, Required.PATH.toString());
+
+        return new CachingResourceManager(resourceManager, base);
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    public long getBytesServed() {
+        return this.bytesServed.sum();
+    }
+
+    public long getSize() {
+        return this.size.get();
+    }
+
+    public int getEntries() {
+        return this.assets.size();
+    }
+
+    private Resource getResource(ResourceManager resourceManager, String base, String path) throws IOException {
+        final String key = base + path;
+        final Asset cached = this.assets.get(key);
+        if (cached != null) {
+            this.hits.increment();
+            cached.touch();
+            return cached;
+        }
+
+        this.misses.increment();
+        final Resource resource = resourceManager.getResource(path);
+        if (resource == null || resource.isDirectory()) {
+            return resource;
+        }
+
+        final Long length = resource.getContentLength();
+        if (length == null || length > this.maxFileSize) {
+            return resource;
+        }
+
+        if (!reserve(length)) {
+            return resource;
+        }
+
+        final Asset asset;
+        try {
+            asset = new Asset(key, resource, load(resource.getUrl(), length.intValue()));
+        } catch (IOException | URISyntaxException e) {
+            this.size.addAndGet(-length);
+            LOG.warn("Failed to cache asset " + path, e);
+            return resource;
+        }
+
+        final Asset existing = this.assets.putIfAbsent(key, asset);
+        if (existing != null) {
+            this.size.addAndGet(-length);
+            return existing;
+        }
+
+        return asset;
+    }
+
+    /**
+     * Reserves the given number of bytes in the cache, evicting the least recently used
+     * assets if the cache is full
+     *
+     * @param length The number of bytes to reserve
+     * @return True if the bytes were reserved, false otherwise
+     */
+    private boolean reserve(long length) {
+        if (length > this.maxSize) {
+            return false;
+        }
+
+        if (this.size.addAndGet(length) > this.maxSize) {
+            evict();
+            if (this.size.get() > this.maxSize) {
+                this.size.addAndGet(-length);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the least recently used assets until the cache is within its maximum size
+     */
+    private synchronized void evict() {
+        final List<SimpleImmutableEntry<Long, Asset>> entries = new ArrayList<>(this.assets.size());
+        this.assets.values().forEach(asset -> entries.add(new SimpleImmutableEntry<>(asset.lastAccess, asset)));
+        entries.sort((first, second) -> Long.compare(first.getKey(), second.getKey()));
+
+        for (final SimpleImmutableEntry<Long, Asset> entry : entries) {
+            if (this.size.get() <= this.maxSize) {
+                break;
+            }
+            if (remove(entry.getValue())) {
+                this.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes the given asset from the cache and releases its bytes
+     *
+     * @param asset The asset to remove
+     * @return True if the asset was removed, false if it was not cached
+     */
+    private boolean remove(Asset asset) {
+        if (this.assets.remove(asset.key, asset)) {
+            this.size.addAndGet(-asset.getContentLength());
+            return true;
+        }
+
+        return false;
+    }
+
+    private static ByteBuffer load(URL url, int length) throws IOException, URISyntaxException {
+        if (FILE_PROTOCOL.equals(url.getProtocol())) {
+            try (FileChannel fileChannel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, length).asReadOnlyBuffer();
+            }
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        try (InputStream inputStream = url.openStream(); ReadableByteChannel channel = Channels.newChannel(inputStream)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                //Read until the buffer is full or the stream ends
+            }
+        }
+        buffer.flip();
+
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Resource manager looking up assets in the cache before loading them from the underlying resource manager
+     */
+    private class CachingResourceManager implements ResourceManager {
+        private final ResourceManager resourceManager;
+        private final String base;
+
+        CachingResourceManager(ResourceManager resourceManager, String base) {
+            this.resourceManager = resourceManager;
+            this.base = base;
+            if (resourceManager.isResourceChangeListenerSupported()) {
+                resourceManager.registerResourceChangeListener(this::onChange);
+            }
+        }
+
+        private void onChange(Collection<ResourceChangeEvent> events) {
+            events.forEach(event -> {
+                final String path = event.getResource().startsWith("/") ? event.getResource() : "/" + event.getResource();
+                final Asset asset = AssetCache.this.assets.get(this.base + path);
+                if (asset != null) {
+                    remove(asset);
+                }
+            });
+        }
+
+        @Override
+        public Resource getResource(String path) throws IOException {
+            return AssetCache.this.getResource(this.resourceManager, this.base, path);
+        }
+
+        @Override
+        public boolean isResourceChangeListenerSupported() {
+            return this.resourceManager.isResourceChangeListenerSupported();
+        }
+
+        @Override
+        public void registerResourceChangeListener(ResourceChangeListener listener) {
+            this.resourceManager.registerResourceChangeListener(listener);
+        }
+
+        @Override
+        public void removeResourceChangeListener(ResourceChangeListener listener) {
+            this.resourceManager.removeResourceChangeListener(listener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.resourceManager.close();
+        }
+    }
+
+    /**
+     * Cached asset sent from its buffer
+     */
+    private class Asset implements RangeAwareResource {
+        private final String key;
+        private final Resource resource;
+        private final ByteBuffer content;
+        private final ETag etag;
+        private final Date lastModified;
+        private final String lastModifiedString;
+        private volatile long lastAccess = System.nanoTime();
+
+        Asset(String key, Resource resource, ByteBuffer content) {
+            final MessageDigest messageDigest = DigestUtils.getMd5Digest(); //NOSONAR
+            messageDigest.update(content.duplicate());
+
+            this.key = key;
+            this.resource = resource;
+            this.content = content;
+            this.etag = new ETag(false, Hex.encodeHexString(messageDigest.digest()));
+            this.lastModified = resource.getLastModified();
+            this.lastModifiedString = (this.lastModified == null) ? null : DateUtils.toDateString(this.lastModified);
+        }
+
+        void touch() {
+            this.lastAccess = System.nanoTime();
+        }
+
+        @Override
+        public void serve(Sender sender, HttpServerExchange exchange, IoCallback callback) {
+            AssetCache.this.bytesServed.add(this.content.remaining());
+            sender.send(this.content.duplicate(), callback);
+        }
+
+        @Override
+        public void serveRange(Sender sender, HttpServerExchange exchange, long start, long end, IoCallback callback) {
+            final ByteBuffer range = this.content.duplicate();
+            range.position((int) start);
+            range.limit((int) end + 1);
+
+            AssetCache.this.bytesServed.add(range.remaining());
+            sender.send(range, callback);
+        }
+
+        @Override
+        public boolean isRangeSupported() {
+            return true;
+        }
+
+        @Override
+        public String getPath() {
+            return this.resource.getPath();
+        }
+
+        @Override
+        public Date getLastModified() {
+            return this.lastModified;
+        }
+
+        @Override
+        public String getLastModifiedString() {
+            return this.lastModifiedString;
+        }
+
+        @Override
+        public ETag getETag() {
+            return this.etag;
+        }
+
+        @Override
+        public String getName() {
+            return this.resource.getName();
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public List<Resource> list() {
+            return this.resource.list();
+        }
+
+        @Override
+        public String getContentType(MimeMappings mimeMappings) {
+            return this.resource.getContentType(mimeMappings);
+        }
+
+        @Override
+        public Long getContentLength() {
+            return (long) this.content.remaining();
+        }
+
+        @Override
+        public String getCacheKey() {
+            return this.resource.getCacheKey();
+        }
+
+        @Override
+        public File getFile() {
+            return this.resource.getFile();
+        }
+
+        @Override
+        public Path getFilePath() {
+            return this.resource.getFilePath();
+        }
+
+        @Override
+        public File getResourceManagerRoot() {
+            return this.resource.getResourceManagerRoot();
+        }
+
+        @Override
+        public Path getResourceManagerRootPath() {
+            return this.resource.getResourceManagerRootPath();
+        }
+
+        @Override
+        public URL getUrl() {
+            return this.resource.getUrl();
+        }
+    }
+}
@@ -2,16 +2,20 @@ package io.mangoo.routing;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
-import org.apache.commons.lang3.StringUtils;
+import com.google.common.base.Preconditions;
 
+import io.mangoo.core.Application;
 import io.mangoo.crypto.Crypto;
 import io.mangoo.enums.Required;
 import io.mangoo.i18n.Messages;
+import io.mangoo.interfaces.MangooFilter;
 import io.mangoo.models.Subject;
 import io.mangoo.routing.bindings.Authentication;
 import io.mangoo.routing.bindings.Flash;
@@ -27,17 +31,11 @@ import io.mangoo.templating.TemplateEngine;
  */
 public class Attachment {
     private final long start = System.currentTimeMillis();
-    private int methodParametersCount;
-    private int limit;
-    private Class<?> controllerClass;
+    private final RouteContext route;
+    private final boolean shared;
     private Object controllerInstance;
-    private Map<String, Class<?>> methodParameters;
-    private String controllerClassName;
-    private String controllerMethodName;
     private String body;
-    private String username;
-    private String password;
-    private Method method;
+    private byte[] rawBody;
     private Authentication authentication;
     private Session session;
     private Subject subject;
@@ -45,32 +43,43 @@ public class Attachment {
     private Form form;
     private Request request;
     private Response response;
+    private Deadline deadline;
     private Map<String, String> requestParameter;
-    private Crypto crypto;
-    private Messages messages;
-    private TemplateEngine templateEngine;
-    private boolean requestFilter;
-    private boolean timer;
-    private List<Annotation> classAnnotations;
-    private List<Annotation> methodAnnotations;
     private Locale locale;
 
+    private Attachment(RouteContext route, boolean shared) {
+        this.route = route;
+        this.shared = shared;
+    }
+
     public static Attachment build() {
-        return new Attachment();
+        return new Attachment(RouteContext.build(), false);
+    }
+
+    /**
+     * Creates a new attachment referencing the given context of a route. The
+     * context is shared between all requests of the route and can not be changed
+     * through the attachment.
+     *
+     * @param route The context of the route
+     * @return A new attachment
+     */
+    public static Attachment of(RouteContext route) {
+        return new Attachment(Objects.requireNonNull(route, Required.ROUTE.toString()), true);
     }
 
     public Attachment withControllerClass(Class<?> controllerClass) {
-        this.controllerClass = Objects.requireNonNull(controllerClass, Required.CONTROLLER_CLASS.toString());
+        route().withControllerClass(controllerClass);
         return this;
     }
 
     public Attachment withControllerClassName(String controllerClassName) {
-        this.controllerClassName = Objects.requireNonNull(controllerClassName, Required.CONTROLLER_NAME.toString());
+        route().withControllerClassName(controllerClassName);
         return this;
     }
 
     public Attachment withControllerMethodName(String controllerMethodName) {
-        this.controllerMethodName = Objects.requireNonNull(controllerMethodName, Required.CONTROLLER_METHOD.toString());
+        route().withControllerMethodName(controllerMethodName);
         return this;
     }
 
@@ -80,22 +89,27 @@ public class Attachment {
     }
 
     public Attachment withCrypto(Crypto crypto) {
-        this.crypto = Objects.requireNonNull(crypto, Required.CRYPTO.toString());
+        route().withCrypto(crypto);
         return this;
     }
 
     public Attachment withMethodParameters(Map<String, Class<?>> methodParameters) {
-        this.methodParameters = Objects.requireNonNull(methodParameters, Required.METHOD_PARAMETERS.toString());
+        route().withMethodParameters(methodParameters);
+        return this;
+    }
+
+    public Attachment withBinders(ParameterBinder [] binders) {
+        route().withBinders(binders);
         return this;
     }
 
     public Attachment withMessages(Messages messages) {
-        this.messages = Objects.requireNonNull(messages, Required.MESSAGES.toString());
+        route().withMessages(messages);
         return this;
     }
 
     public Attachment withTemplateEngine(TemplateEngine templateEngine) {
-        this.templateEngine = Objects.requireNonNull(templateEngine, Required.TEMPLATE_ENGINE.toString());
+        route().withTemplateEngine(templateEngine);
         return this;
     }
 
@@ -105,7 +119,12 @@ public class Attachment {
     }
 
     public Attachment withMethod(Method method) {
-        this.method = Objects.requireNonNull(method, Required.METHOD.toString());
+        route().withMethod(method);
+        return this;
+    }
+    
+    public Attachment withInvoker(ControllerInvoker invoker) {
+        route().withInvoker(invoker);
         return this;
     }
     
@@ -115,47 +134,62 @@ public class Attachment {
     }
 
     public Attachment withMethodParameterCount(int methodParametersCount) {
-        this.methodParametersCount = methodParametersCount;
+        route().withMethodParameterCount(methodParametersCount);
         return this;
     }
 
     public Attachment withRequestFilter(boolean hasRequestFilter) {
-        this.requestFilter = hasRequestFilter;
+        route().withRequestFilter(hasRequestFilter);
         return this;
     }
     
+    public Attachment withFilters(MangooFilter [] filters) {
+        route().withFilters(filters);
+        return this;
+    }
+
     public Attachment withClassAnnotations(List<Annotation> classAnnotations) {
-        this.classAnnotations = classAnnotations;
+        route().withClassAnnotations(classAnnotations);
         return this;
     }
     
     public Attachment withMethodAnnotations(List<Annotation> methodAnnotations) {
-        this.methodAnnotations = methodAnnotations;
+        route().withMethodAnnotations(methodAnnotations);
         return this;
     }
     
     public Attachment withTimer(boolean timer) {
-        this.timer = timer;
+        route().withTimer(timer);
         return this;
     }
 
     public Attachment withLimit(int limit) {
-        this.limit = limit;
+        route().withLimit(limit);
+        return this;
+    }
+    
+    public Attachment withDeadline(Deadline deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+    
+    public Attachment withAsync(boolean async) {
+        route().withAsync(async);
         return this;
     }
     
     public Attachment withUsername(String username) {
-        this.username = username;
+        route().withUsername(username);
         return this;
     }
     
     public Attachment withPassword(String password) {
-        this.password = password;
+        route().withPassword(password);
         return this;
     }
 
     public Messages getMessages() {
-        return this.messages;
+        return this.route.getMessages();
     }
 
     public void setForm(Form form) {
@@ -191,19 +225,39 @@ public class Attachment {
     }
 
     public Crypto getCrypto() {
-        return this.crypto;
+        return this.route.getCrypto();
     }
 
     public boolean hasRequestFilter() {
-        return this.requestFilter;
+        return this.route.hasRequestFilter();
     }
 
     public Method getMethod() {
-        return this.method;
+        return this.route.getMethod();
+    }
+
+    public ControllerInvoker getInvoker() {
+        return this.route.getInvoker();
+    }
+
+    public ControllerInvoker getValidator() {
+        return this.route.getValidator();
+    }
+
+    public ParameterBinder[] getValidatorBinders() {
+        return this.route.getValidatorBinders();
+    }
+
+    public Executor getExecutor() {
+        return this.route.getExecutor();
+    }
+
+    public boolean hasValidator() {
+        return this.route.getValidator() != null;
     }
 
     public Class<?> getControllerClass() {
-        return this.controllerClass;
+        return this.route.getControllerClass();
     }
 
     public Request getRequest() {
@@ -211,7 +265,11 @@ public class Attachment {
     }
 
     public Map<String, Class<?>> getMethodParameters() {
-        return this.methodParameters;
+        return this.route.getMethodParameters();
+    }
+
+    public ParameterBinder[] getBinders() {
+        return this.route.getBinders();
     }
 
     public Object getControllerInstance() {
@@ -219,23 +277,31 @@ public class Attachment {
     }
 
     public TemplateEngine getTemplateEngine() {
-        return this.templateEngine;
+        return this.route.getTemplateEngine();
     }
 
     public Form getForm() {
+        if (this.form == null) {
+            this.form = Application.getInstance(Form.class);
+        }
+
         return this.form;
     }
 
+    public boolean hasForm() {
+        return this.form != null;
+    }
+
     public String getControllerClassName() {
-        return this.controllerClassName;
+        return this.route.getControllerClassName();
     }
 
     public String getControllerMethodName() {
-        return this.controllerMethodName;
+        return this.route.getControllerMethodName();
     }
 
     public int getMethodParametersCount() {
-        return this.methodParametersCount;
+        return this.route.getMethodParametersCount();
     }
 
     public  Map<String, String> getRequestParameter() {
@@ -243,6 +309,10 @@ public class Attachment {
     }
 
     public String getBody() {
+        if (this.body == null && this.rawBody != null) {
+            this.body = new String(this.rawBody, StandardCharsets.UTF_8);
+        }
+
         return this.body;
     }
 
@@ -250,6 +320,15 @@ public class Attachment {
         this.body = body;
     }
 
+    public byte[] getRawBody() {
+        return this.rawBody;
+    }
+
+    public void setRawBody(byte[] rawBody) {
+        this.rawBody = rawBody;
+        this.body = null;
+    }
+
     public void setRequest(Request request) {
         this.request = request;
     }
@@ -263,27 +342,35 @@ public class Attachment {
     }
     
     public boolean hasTimer() {
-        return this.timer;
+        return this.route.hasTimer();
     }
     
     public String getUsername() {
-        return this.username;
+        return this.route.getUsername();
     }
     
     public String getPassword() {
-        return this.password;
+        return this.route.getPassword();
     }
     
     public int getLimit() {
-        return this.limit;
+        return this.route.getLimit();
     }
     
     public boolean hasAuthentication() {
-        return StringUtils.isNotBlank(this.username) && StringUtils.isNotBlank(this.password);
+        return this.route.hasAuthentication();
+    }
+    
+    public Deadline getDeadline() {
+        return this.deadline;
+    }
+    
+    public boolean isAsync() {
+        return this.route.isAsync();
     }
     
     public boolean hasLimit() {
-        return this.limit > 0;
+        return this.route.hasLimit();
     }
 
     public long getResponseTime() {
@@ -294,15 +381,28 @@ public class Attachment {
         return this.locale;
     }
 
+    public MangooFilter[] getFilters() {
+        return this.route.getFilters();
+    }
+
     public List<Annotation> getClassAnnotations() {
-        return this.classAnnotations;
+        return this.route.getClassAnnotations();
     }
     
     public List<Annotation> getMethodAnnotations() {
-        return this.methodAnnotations;
+        return this.route.getMethodAnnotations();
     }
 
     public Subject getSubject() {
         return this.subject;
     }
-}
\ No newline at end of file
+
+    public RouteContext getRoute() {
+        return this.route;
+    }
+
+    private RouteContext route() {
+        Preconditions.checkState(!this.shared, "context of the route can not be changed");
+        return this.route;
+    }
+}
@@ -0,0 +1,163 @@
+package io.mangoo.routing;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.base.Preconditions;
+
+import io.mangoo.enums.Required;
+import io.undertow.server.Connectors;
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.SameThreadExecutor;
+import io.undertow.util.StatusCodes;
+
+/**
+ * Limits the number of requests of a route which are processed concurrently. Requests
+ * exceeding the limit are suspended and queued up to a given bound, all further requests
+ * are rejected with 503 Service Unavailable and a Retry-After header.
+ *
+ * @author svenkubiak
+ *
+ */
+public final class Bulkhead {
+    private static final String RETRY_AFTER = "1";
+    private final Queue<QueuedRequest> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final ExchangeCompletionListener listener = this::exchangeEvent;
+    private final int concurrency;
+    private final int queueSize;
+
+    private static final class QueuedRequest {
+        private final HttpServerExchange exchange;
+        private final HttpHandler next;
+
+        QueuedRequest(HttpServerExchange exchange, HttpHandler next) {
+            this.exchange = exchange;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Creates a new bulkhead
+     *
+     * @param concurrency The maximum number of requests processed concurrently
+     * @param queueSize The maximum number of requests waiting for processing
+     */
+    public Bulkhead(int concurrency, int queueSize) {
+        Preconditions.checkArgument(concurrency > 0, "concurrency must be greater than 0");
+        Preconditions.checkArgument(queueSize >= 0, "queue must not be negative");
+
+        this.concurrency = concurrency;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Passes the request to the given handler if the limit of the route is not reached,
+     * queues the request if there is room in the queue or rejects the request otherwise
+     *
+     * @param exchange The HttpServerExchange
+     * @param next The handler processing the request
+     * @throws Exception Thrown when an exception occurs
+     */
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE.toString());
+        Objects.requireNonNull(next, Required.HTTP_HANDLER.toString());
+
+        if (tryAcquire()) {
+            exchange.addExchangeCompleteListener(this.listener);
+            next.handleRequest(exchange);
+        } else if (this.queued.incrementAndGet() <= this.queueSize) {
+            exchange.dispatch(SameThreadExecutor.INSTANCE, () -> {
+                this.queue.add(new QueuedRequest(exchange, next));
+                drain();
+            });
+        } else {
+            this.queued.decrementAndGet();
+            this.rejected.increment();
+            exchange.getResponseHeaders().put(Headers.RETRY_AFTER, RETRY_AFTER);
+            exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+            exchange.endExchange();
+        }
+    }
+
+    private void exchangeEvent(HttpServerExchange exchange, ExchangeCompletionListener.NextListener nextListener) {
+        try {
+            this.inFlight.decrementAndGet();
+            drain();
+        } finally {
+            nextListener.proceed();
+        }
+    }
+
+    /**
+     * Resumes queued requests as long as the limit of the route is not reached
+     */
+    private void drain() {
+        while (!this.queue.isEmpty() && tryAcquire()) {
+            final QueuedRequest queuedRequest = this.queue.poll();
+            if (queuedRequest == null) {
+                this.inFlight.decrementAndGet();
+            } else {
+                this.queued.decrementAndGet();
+                final HttpServerExchange exchange = queuedRequest.exchange;
+                exchange.addExchangeCompleteListener(this.listener);
+                exchange.getIoThread().execute(() -> Connectors.executeRootHandler(queuedRequest.next, exchange));
+            }
+        }
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = this.inFlight.get();
+            if (current >= this.concurrency) {
+                return false;
+            }
+        } while (!this.inFlight.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    /**
+     * @return The maximum number of requests processed concurrently
+     */
+    public int getConcurrency() {
+        return this.concurrency;
+    }
+
+    /**
+     * @return The maximum number of requests waiting for processing
+     */
+    public int getQueueSize() {
+        return this.queueSize;
+    }
+
+    /**
+     * @return The number of requests currently processed
+     */
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * @return The number of requests currently waiting for processing
+     */
+    public int getQueued() {
+        return this.queued.get();
+    }
+
+    /**
+     * @return The number of rejected requests
+     */
+    public long getRejected() {
+        return this.rejected.sum();
+    }
+}
@@ -0,0 +1,166 @@
+package io.mangoo.routing;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.mangoo.enums.Required;
+import io.mangoo.routing.bindings.Authentication;
+import io.mangoo.routing.bindings.Flash;
+import io.mangoo.routing.bindings.Session;
+import io.undertow.util.HttpString;
+
+/**
+ * Snapshot of a rendered response which is stored in the response cache
+ *
+ * @author svenkubiak
+ *
+ */
+public final class CachedResponse implements Serializable {
+    private static final long serialVersionUID = -2861371464327843785L;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Map<String, String> headers = new HashMap<>();
+    private final String contentType;
+    private final String charset;
+    private final byte[] body;
+    private final long created;
+    private final long ttl;
+    private final int statusCode;
+    private final boolean etag;
+
+    private CachedResponse(Response response, long ttl) {
+        final ByteBuffer bodyBuffer = response.getBodyBuffer();
+        this.body = new byte[bodyBuffer.remaining()];
+        bodyBuffer.get(this.body);
+        this.contentType = response.getContentType();
+        this.charset = response.getCharset();
+        this.statusCode = response.getStatusCode();
+        this.etag = response.isETag();
+        this.ttl = ttl;
+        this.created = System.currentTimeMillis();
+        response.getHeaders().forEach((key, value) -> this.headers.put(key.toString(), value)); //NOSONAR
+    }
+
+    /**
+     * Creates a snapshot of the given response
+     *
+     * @param response The response to cache
+     * @return A new CachedResponse instance
+     */
+    public static CachedResponse of(Response response) {
+        return of(response, 0);
+    }
+
+    /**
+     * Creates a snapshot of the given response which is evicted from the response cache
+     * once the given number of seconds passed
+     *
+     * @param response The response to cache
+     * @param ttl The number of seconds the response is kept in the cache, 0 to keep it until it is evicted by size
+     * @return A new CachedResponse instance
+     */
+    public static CachedResponse of(Response response, long ttl) {
+        Objects.requireNonNull(response, Required.RESPONSE.toString());
+
+        return new CachedResponse(response, ttl);
+    }
+
+    /**
+     * Checks if a response can be shared between all clients, which is only the case
+     * for rendered, non-streamed responses with status code 200 that do not set any cookies
+     *
+     * @param response The response to check
+     * @return True if the response can be cached, false otherwise
+     */
+    public static boolean isCacheable(Response response) {
+        return response != null && response.isRendered() && !response.isRedirect() && !response.isBinary() && !response.isStream()
+                && response.getStatusCode() == 200 && response.getCookies().isEmpty();
+    }
+
+    /**
+     * Checks if the response of a request can be shared with other anonymous clients.
+     * This is the case if the response is cacheable and the request did not change
+     * the session, flash or authentication.
+     *
+     * @param attachment The attachment of the request
+     * @return True if the response can be shared, false otherwise
+     */
+    public static boolean isShareable(Attachment attachment) {
+        if (attachment == null || !isCacheable(attachment.getResponse())) {
+            return false;
+        }
+
+        final Session session = attachment.getSession();
+        final Flash flash = attachment.getFlash();
+        final Authentication authentication = attachment.getAuthentication();
+
+        return (session == null || !session.hasChanges())
+                && (flash == null || !flash.hasContent())
+                && (authentication == null || !authentication.hasAuthenticatedUser());
+    }
+
+    /**
+     * @return A new response object containing the cached status, headers and body
+     */
+    public Response toResponse() {
+        final Response response = Response.withStatusCode(this.statusCode)
+                .andBodyBuffer(ByteBuffer.wrap(this.body).asReadOnlyBuffer())
+                .andContentType(this.contentType)
+                .andCharset(this.charset);
+
+        this.headers.forEach((key, value) -> response.andHeader(new HttpString(key), value)); //NOSONAR
+        if (this.etag) {
+            response.andEtag();
+        }
+
+        return response;
+    }
+
+    /**
+     * @param ttl The time to live in seconds
+     * @return True if the response is younger than the given time to live
+     */
+    public boolean isFresh(int ttl) {
+        return getAge() < ttl * 1000L;
+    }
+
+    /**
+     * @param ttl The time to live in seconds
+     * @param stale The number of seconds a response is served after its time to live expired
+     * @return True if the response is older than ttl but may still be served while it is refreshed
+     */
+    public boolean isStale(int ttl, int stale) {
+        final long age = getAge();
+        return age >= ttl * 1000L && age < (ttl + (long) stale) * 1000L;
+    }
+
+    /**
+     * Marks the response as being refreshed
+     *
+     * @return True if the caller should refresh the response, false if a refresh is already running
+     */
+    public boolean startRefresh() {
+        return this.refreshing.compareAndSet(false, true);
+    }
+
+    /**
+     * Resets the refresh marker, e.g. if a refresh failed
+     */
+    public void endRefresh() {
+        this.refreshing.set(false);
+    }
+
+    /**
+     * @return The number of seconds the response is kept in the cache, 0 if it is only evicted by size
+     */
+    public long getTtl() {
+        return this.ttl;
+    }
+
+    private long getAge() {
+        return System.currentTimeMillis() - this.created;
+    }
+}
@@ -0,0 +1,228 @@
+package io.mangoo.routing;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.mangoo.configuration.Config;
+import io.mangoo.enums.Required;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+
+/**
+ * Negotiates the content encoding of a response with the Accept-Encoding header
+ * of the client and compresses response bodies with gzip or deflate.
+ *
+ * Deflater instances hold native memory and are expensive to create, so they are
+ * pooled and reused across requests.
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class Compressor {
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+    private static final String ANY = "*";
+    private static final String QUALITY = "q=";
+    private static final byte [] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int GZIP_TRAILER_LENGTH = 8;
+    private static final int MAX_POOLED = 64;
+    private final Queue<Deflater> gzipPool = new ConcurrentLinkedQueue<>();
+    private final Queue<Deflater> deflatePool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final Set<String> mimeTypes = new HashSet<>();
+    private final boolean enabled;
+    private final int level;
+    private final int minSize;
+
+    @Inject
+    public Compressor(Config config) {
+        Objects.requireNonNull(config, Required.CONFIG.toString());
+
+        this.enabled = config.isCompressionEnabled();
+        this.level = Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, config.getCompressionLevel()));
+        this.minSize = Math.max(0, config.getCompressionMinSize());
+        for (final String mimeType : StringUtils.split(config.getCompressionMimeTypes(), ',')) {
+            if (StringUtils.isNotBlank(mimeType)) {
+                this.mimeTypes.add(mimeType.trim().toLowerCase(Locale.ENGLISH));
+            }
+        }
+    }
+
+    /**
+     * @return True if compression is enabled in application.yaml
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Checks if a response with the given content type and length should be compressed
+     *
+     * @param contentType The content type of the response, optionally with parameters like the charset
+     * @param length The length of the response body or -1 if unknown
+     * @return True if the response should be compressed, false otherwise
+     */
+    public boolean isCompressible(String contentType, long length) {
+        if (!this.enabled || StringUtils.isBlank(contentType) || (length >= 0 && length < this.minSize)) {
+            return false;
+        }
+
+        return this.mimeTypes.contains(StringUtils.substringBefore(contentType, ";").trim().toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Selects the content encoding of the response based on the Accept-Encoding header
+     * of the request, preferring gzip over deflate for equal quality values
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @return gzip, deflate or null if the client accepts neither
+     */
+    public String negotiate(HttpServerExchange exchange) {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE.toString());
+
+        final String acceptEncoding = exchange.getRequestHeaders().getFirst(Headers.ACCEPT_ENCODING);
+        if (StringUtils.isBlank(acceptEncoding)) {
+            return null;
+        }
+
+        double gzip = -1;
+        double deflate = -1;
+        double any = -1;
+        for (final String coding : StringUtils.split(acceptEncoding, ',')) {
+            final String [] parts = StringUtils.split(coding, ';');
+            if (parts.length == 0) {
+                continue;
+            }
+
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                final String parameter = parts[i].trim();
+                if (parameter.startsWith(QUALITY)) {
+                    quality = NumberUtils.toDouble(parameter.substring(QUALITY.length()), 0);
+                }
+            }
+
+            final String name = parts[0].trim().toLowerCase(Locale.ENGLISH);
+            if (GZIP.equals(name)) {
+                gzip = quality;
+            } else if (DEFLATE.equals(name)) {
+                deflate = quality;
+            } else if (ANY.equals(name)) {
+                any = quality;
+            }
+        }
+
+        gzip = (gzip < 0) ? any : gzip;
+        deflate = (deflate < 0) ? any : deflate;
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        } else if (deflate > 0) {
+            return DEFLATE;
+        }
+
+        return null;
+    }
+
+    /**
+     * Compresses the given body with the given encoding
+     *
+     * @param body The body to compress
+     * @param encoding The encoding, either gzip or deflate
+     * @return The compressed body or null if compressing does not reduce the size of the body
+     */
+    public ByteBuffer compress(ByteBuffer body, String encoding) {
+        Objects.requireNonNull(body, Required.BODY.toString());
+
+        final boolean gzip = GZIP.equals(encoding);
+        final int length = body.remaining();
+        final byte [] input;
+        final int offset;
+        if (body.hasArray()) {
+            input = body.array();
+            offset = body.arrayOffset() + body.position();
+        } else {
+            input = new byte[length];
+            body.duplicate().get(input);
+            offset = 0;
+        }
+
+        final Deflater deflater = acquire(gzip);
+        try {
+            deflater.setInput(input, offset, length);
+            deflater.finish();
+
+            byte [] output = new byte[length / 2 + GZIP_HEADER.length + GZIP_TRAILER_LENGTH];
+            int position = 0;
+            if (gzip) {
+                System.arraycopy(GZIP_HEADER, 0, output, 0, GZIP_HEADER.length);
+                position = GZIP_HEADER.length;
+            }
+
+            while (!deflater.finished()) {
+                if (position == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                position += deflater.deflate(output, position, output.length - position);
+            }
+
+            if (gzip) {
+                final CRC32 crc = new CRC32();
+                crc.update(input, offset, length);
+                if (position + GZIP_TRAILER_LENGTH > output.length) {
+                    output = Arrays.copyOf(output, position + GZIP_TRAILER_LENGTH);
+                }
+                position = writeInt(output, position, (int) crc.getValue());
+                position = writeInt(output, position, length);
+            }
+
+            return (position < length) ? ByteBuffer.wrap(output, 0, position) : null;
+        } finally {
+            release(deflater, gzip);
+        }
+    }
+
+    private static int writeInt(byte [] output, int position, int value) {
+        output[position] = (byte) value;
+        output[position + 1] = (byte) (value >> 8);
+        output[position + 2] = (byte) (value >> 16);
+        output[position + 3] = (byte) (value >> 24);
+
+        return position + 4;
+    }
+
+    private Deflater acquire(boolean gzip) {
+        final Deflater deflater = (gzip ? this.gzipPool : this.deflatePool).poll();
+        if (deflater == null) {
+            return new Deflater(this.level, gzip);
+        }
+        this.pooled.decrementAndGet();
+
+        return deflater;
+    }
+
+    private void release(Deflater deflater, boolean gzip) {
+        if (this.pooled.incrementAndGet() <= MAX_POOLED) {
+            deflater.reset();
+            (gzip ? this.gzipPool : this.deflatePool).add(deflater);
+        } else {
+            this.pooled.decrementAndGet();
+            deflater.end();
+        }
+    }
+}
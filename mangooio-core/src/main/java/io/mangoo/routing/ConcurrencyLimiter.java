@@ -0,0 +1,152 @@
+package io.mangoo.routing;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.mangoo.configuration.Config;
+import io.mangoo.enums.Required;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+
+/**
+ * Global limit for the number of requests processed concurrently, which adapts
+ * itself to the observed latency of the requests.
+ *
+ * The limit follows a gradient algorithm: a long term average of the request time is
+ * compared to the latest request time. While the latest request time stays within a
+ * tolerance of the long term average, the limit grows by the square root of the current
+ * limit. Once requests get slower, the limit shrinks by the ratio of both times. Requests
+ * exceeding the current limit are rejected with 503 Service Unavailable.
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class ConcurrencyLimiter {
+    private static final String RETRY_AFTER = "1";
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_WINDOW = 600;
+    private static final double DRIFT = 2.0;
+    private static final double DRIFT_DECAY = 0.95;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder shed = new LongAdder();
+    private final int minLimit;
+    private final int maxLimit;
+    private final boolean enabled;
+    private double estimatedLimit;
+    private double longRtt;
+    private volatile long rtt;
+    private volatile int limit;
+
+    @Inject
+    public ConcurrencyLimiter(Config config) {
+        Objects.requireNonNull(config, Required.CONFIG.toString());
+
+        this.enabled = config.isLimiterEnabled();
+        this.minLimit = Math.max(1, config.getLimiterMin());
+        this.maxLimit = Math.max(this.minLimit, config.getLimiterMax());
+        this.estimatedLimit = Math.min(this.maxLimit, Math.max(this.minLimit, config.getLimiterInitial()));
+        this.limit = (int) this.estimatedLimit;
+    }
+
+    /**
+     * Passes the request to the given handler if the current limit is not reached
+     * or rejects the request otherwise
+     *
+     * @param exchange The HttpServerExchange
+     * @param next The handler processing the request
+     * @throws Exception Thrown when an exception occurs
+     */
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
+        final int current = this.inFlight.incrementAndGet();
+        if (current > this.limit) {
+            this.inFlight.decrementAndGet();
+            this.shed.increment();
+            exchange.getResponseHeaders().put(Headers.RETRY_AFTER, RETRY_AFTER);
+            exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+            exchange.endExchange();
+            return;
+        }
+
+        final long start = System.nanoTime();
+        exchange.addExchangeCompleteListener((completedExchange, nextListener) -> {
+            try {
+                this.inFlight.decrementAndGet();
+                sample(System.nanoTime() - start, current);
+            } finally {
+                nextListener.proceed();
+            }
+        });
+        next.handleRequest(exchange);
+    }
+
+    /**
+     * Updates the limit with the request time of a completed request
+     *
+     * @param requestTime The request time in nanoseconds
+     * @param concurrency The number of requests in flight when the request started
+     */
+    private synchronized void sample(long requestTime, int concurrency) {
+        final long sample = Math.max(1, requestTime);
+        this.rtt = sample;
+        this.longRtt = (this.longRtt == 0) ? sample : this.longRtt + (sample - this.longRtt) / LONG_WINDOW;
+        if (this.longRtt / sample > DRIFT) {
+            this.longRtt = this.longRtt * DRIFT_DECAY;
+        }
+
+        if (concurrency < this.estimatedLimit / 2) {
+            return;
+        }
+
+        final double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * this.longRtt / sample));
+        double newLimit = this.estimatedLimit * gradient + Math.sqrt(this.estimatedLimit);
+        newLimit = this.estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+
+        this.estimatedLimit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+        this.limit = (int) this.estimatedLimit;
+    }
+
+    /**
+     * @return True if the limiter is enabled in application.yaml
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * @return The current number of requests allowed concurrently
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * @return The number of requests currently processed
+     */
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * @return The request time of the last completed request in milliseconds
+     */
+    public long getRtt() {
+        return TimeUnit.NANOSECONDS.toMillis(this.rtt);
+    }
+
+    /**
+     * @return The number of rejected requests
+     */
+    public long getShed() {
+        return this.shed.sum();
+    }
+}
@@ -0,0 +1,204 @@
+package io.mangoo.routing;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.mangoo.enums.Required;
+
+/**
+ * Direct-call invoker for a mapped controller method.
+ *
+ * The controller method is compiled once at startup via LambdaMetafactory into a
+ * generated class implementing one of the arity specific functional interfaces below,
+ * so a request calls the controller through a plain interface call instead of the
+ * reflective Method.invoke path. Controller methods with more parameters than the largest
+ * interface fall back to a spreading MethodHandle. The invoker matching the arity of the
+ * method is bound once at construction, so a call does not dispatch on the number of parameters.
+ *
+ * Controller methods may either return a Response or a CompletionStage of a Response.
+ *
+ * @author svenkubiak
+ *
+ */
+public final class ControllerInvoker {
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Object [] NO_ARGUMENTS = new Object[0];
+    private final Invocation invocation;
+    private final int parameterCount;
+    private final boolean async;
+
+    @FunctionalInterface
+    private interface Invocation { Object invoke(Object controller, Object [] arguments) throws Throwable; } //NOSONAR
+    @FunctionalInterface
+    private interface Invoker0 { Object invoke(Object controller); }
+    @FunctionalInterface
+    private interface Invoker1 { Object invoke(Object controller, Object a0); }
+    @FunctionalInterface
+    private interface Invoker2 { Object invoke(Object controller, Object a0, Object a1); }
+    @FunctionalInterface
+    private interface Invoker3 { Object invoke(Object controller, Object a0, Object a1, Object a2); }
+    @FunctionalInterface
+    private interface Invoker4 { Object invoke(Object controller, Object a0, Object a1, Object a2, Object a3); }
+    @FunctionalInterface
+    private interface Invoker5 { Object invoke(Object controller, Object a0, Object a1, Object a2, Object a3, Object a4); }
+    @FunctionalInterface
+    private interface Invoker6 { Object invoke(Object controller, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5); }
+
+    public ControllerInvoker(Method method) throws IllegalAccessException {
+        Objects.requireNonNull(method, Required.METHOD.toString());
+
+        this.parameterCount = method.getParameterCount();
+        this.async = CompletionStage.class.isAssignableFrom(method.getReturnType());
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        this.invocation = createInvocation(lookup, lookup.unreflect(method), this.parameterCount);
+    }
+
+    /**
+     * Binds the arity specific invoker of the method once, so that a call neither
+     * switches on the number of parameters nor spreads the arguments of small methods
+     */
+    private static Invocation createInvocation(MethodHandles.Lookup lookup, MethodHandle handle, int parameterCount) throws IllegalAccessException {
+        switch (parameterCount) {
+        case 0:
+            final Invoker0 invoker0 = (Invoker0) createInvoker(lookup, handle, Invoker0.class);
+            return (controller, a) -> invoker0.invoke(controller);
+        case 1:
+            final Invoker1 invoker1 = (Invoker1) createInvoker(lookup, handle, Invoker1.class);
+            return (controller, a) -> invoker1.invoke(controller, a[0]);
+        case 2:
+            final Invoker2 invoker2 = (Invoker2) createInvoker(lookup, handle, Invoker2.class);
+            return (controller, a) -> invoker2.invoke(controller, a[0], a[1]);
+        case 3:
+            final Invoker3 invoker3 = (Invoker3) createInvoker(lookup, handle, Invoker3.class);
+            return (controller, a) -> invoker3.invoke(controller, a[0], a[1], a[2]);
+        case 4:
+            final Invoker4 invoker4 = (Invoker4) createInvoker(lookup, handle, Invoker4.class);
+            return (controller, a) -> invoker4.invoke(controller, a[0], a[1], a[2], a[3]);
+        case 5:
+            final Invoker5 invoker5 = (Invoker5) createInvoker(lookup, handle, Invoker5.class);
+            return (controller, a) -> invoker5.invoke(controller, a[0], a[1], a[2], a[3], a[4]);
+        case 6:
+            final Invoker6 invoker6 = (Invoker6) createInvoker(lookup, handle, Invoker6.class);
+            return (controller, a) -> invoker6.invoke(controller, a[0], a[1], a[2], a[3], a[4], a[5]);
+        default:
+            final MethodHandle spreader = handle.asSpreader(Object[].class, parameterCount).asType(SPREAD_TYPE);
+            return (controller, a) -> spreader.invokeExact(controller, a);
+        }
+    }
+
+    private static Object createInvoker(MethodHandles.Lookup lookup, MethodHandle handle, Class<?> type) throws IllegalAccessException {
+        final MethodType genericType = handle.type().generic();
+        try {
+            final CallSite callSite = LambdaMetafactory.metafactory(lookup,
+                    "invoke",
+                    MethodType.methodType(type),
+                    genericType,
+                    handle,
+                    handle.type().wrap());
+
+            return callSite.getTarget().invoke();
+        } catch (LambdaConversionException e) {
+            throw new IllegalAccessException(e.getMessage());
+        } catch (Throwable e) { //NOSONAR
+            throw new IllegalStateException("Failed to create controller invoker", e);
+        }
+    }
+
+    /**
+     * Invokes the controller method without parameters on the given controller instance
+     *
+     * @param controller The controller instance
+     * @return The response returned by the controller method
+     *
+     * @throws InvocationTargetException If the controller method throws an exception
+     */
+    public Response invoke(Object controller) throws InvocationTargetException {
+        return (Response) call(controller, NO_ARGUMENTS);
+    }
+
+    /**
+     * Invokes the controller method on the given controller instance
+     *
+     * @param controller The controller instance
+     * @param arguments The converted method arguments, may be null for methods without parameters
+     * @return The response returned by the controller method
+     *
+     * @throws InvocationTargetException If the controller method throws an exception
+     */
+    public Response invoke(Object controller, Object [] arguments) throws InvocationTargetException {
+        return (Response) call(controller, arguments);
+    }
+
+    /**
+     * Invokes the controller method without parameters on the given controller instance.
+     * If the controller method returns a plain Response, an already completed stage is returned.
+     *
+     * @param controller The controller instance
+     * @return The stage of the response returned by the controller method
+     *
+     * @throws InvocationTargetException If the controller method throws an exception
+     */
+    public CompletionStage<Response> invokeAsync(Object controller) throws InvocationTargetException {
+        return invokeAsync(controller, NO_ARGUMENTS);
+    }
+
+    /**
+     * Invokes the controller method on the given controller instance. If the controller
+     * method returns a plain Response, an already completed stage is returned.
+     *
+     * @param controller The controller instance
+     * @param arguments The converted method arguments, may be null for methods without parameters
+     * @return The stage of the response returned by the controller method
+     *
+     * @throws InvocationTargetException If the controller method throws an exception
+     */
+    @SuppressWarnings("unchecked")
+    public CompletionStage<Response> invokeAsync(Object controller, Object [] arguments) throws InvocationTargetException {
+        final Object response = call(controller, arguments);
+        if (response instanceof CompletionStage) {
+            return (CompletionStage<Response>) response;
+        }
+
+        return CompletableFuture.completedFuture((Response) response);
+    }
+
+    /**
+     * Invokes the method on the given controller instance and returns its result as is
+     *
+     * @param controller The controller instance
+     * @param arguments The converted method arguments, may be null for methods without parameters
+     * @return The value returned by the method
+     *
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    public Object call(Object controller, Object [] arguments) throws InvocationTargetException {
+        try {
+            return this.invocation.invoke(controller, arguments == null ? NO_ARGUMENTS : arguments);
+        } catch (Throwable e) { //NOSONAR
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * @return The number of parameters of the controller method
+     */
+    public int getParameterCount() {
+        return this.parameterCount;
+    }
+
+    /**
+     * @return True if the controller method returns a CompletionStage
+     */
+    public boolean isAsync() {
+        return this.async;
+    }
+}
@@ -0,0 +1,99 @@
+package io.mangoo.routing;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Time budget of a request. The deadline starts when the request is passed to the
+ * request chain and is either completed by the request chain or expired by the timeout,
+ * whichever comes first.
+ *
+ * @author svenkubiak
+ *
+ */
+public final class Deadline {
+    private static final int RUNNING = 0;
+    private static final int COMPLETED = 1;
+    private static final int EXPIRED = 2;
+    private final long end;
+    private Thread thread;
+    private int state = RUNNING;
+
+    /**
+     * Starts a new deadline
+     *
+     * @param timeout The timeout in milliseconds
+     */
+    public Deadline(long timeout) {
+        Preconditions.checkArgument(timeout > 0, "timeout must be greater than 0");
+        this.end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+    }
+
+    /**
+     * @return The remaining time in milliseconds or 0 if the deadline is exceeded
+     */
+    public long getRemaining() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(this.end - System.nanoTime()));
+    }
+
+    /**
+     * @return True if the time of the deadline is exceeded
+     */
+    public boolean isExceeded() {
+        return this.end - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Sets the thread which is interrupted once the deadline expires
+     *
+     * @param thread The thread processing the request
+     */
+    public synchronized void interrupt(Thread thread) {
+        this.thread = thread;
+    }
+
+    /**
+     * Marks the request as completed. If the deadline already expired, a pending
+     * interrupt of the current thread caused by the deadline is cleared.
+     *
+     * @return True if the request was completed before the deadline expired, false otherwise
+     */
+    public synchronized boolean complete() {
+        final boolean completed = this.state == RUNNING;
+        if (completed) {
+            this.state = COMPLETED;
+        } else if (this.thread == Thread.currentThread()) {
+            Thread.interrupted(); //NOSONAR
+        }
+        this.thread = null;
+
+        return completed;
+    }
+
+    /**
+     * Marks the deadline as expired and interrupts the thread processing the request,
+     * unless the deadline is expired by that thread itself
+     *
+     * @return True if the deadline expired before the request was completed, false otherwise
+     */
+    public synchronized boolean expire() {
+        if (this.state != RUNNING) {
+            return false;
+        }
+
+        this.state = EXPIRED;
+        if (this.thread != null && this.thread != Thread.currentThread()) {
+            this.thread.interrupt();
+        }
+
+        return true;
+    }
+
+    /**
+     * @return True if the deadline expired
+     */
+    public synchronized boolean isExpired() {
+        return this.state == EXPIRED;
+    }
+}
@@ -0,0 +1,223 @@
+package io.mangoo.routing;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.xnio.ChannelListener;
+import org.xnio.Option;
+import org.xnio.OptionMap;
+import org.xnio.Pool;
+import org.xnio.StreamConnection;
+import org.xnio.XnioIoThread;
+import org.xnio.XnioWorker;
+import org.xnio.conduits.ConduitStreamSinkChannel;
+import org.xnio.conduits.ConduitStreamSourceChannel;
+import org.xnio.conduits.StreamSinkConduit;
+
+import io.mangoo.enums.Required;
+import io.undertow.connector.ByteBufferPool;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.HttpUpgradeListener;
+import io.undertow.server.SSLSessionInfo;
+import io.undertow.server.ServerConnection;
+
+/**
+ * Inert connection of a request which is processed after its original exchange has been
+ * completed, e.g. to refresh a stale cached response in the background. The connection only
+ * holds a snapshot of the metadata of the original connection, which may already serve another
+ * request or be closed. It has no channels, so nothing can be read from or written to it.
+ *
+ * @author svenkubiak
+ *
+ */
+public final class DetachedConnection extends ServerConnection {
+    private static final String NOT_SUPPORTED = "A detached connection has no channels";
+    private final SocketAddress peerAddress;
+    private final SocketAddress localAddress;
+    private final XnioWorker worker;
+    private final XnioIoThread ioThread;
+    private final OptionMap undertowOptions;
+    private final String transportProtocol;
+    private final int bufferSize;
+    private SSLSessionInfo sslSessionInfo;
+
+    public DetachedConnection(ServerConnection connection) {
+        Objects.requireNonNull(connection, Required.CONNECTION.toString());
+
+        this.peerAddress = connection.getPeerAddress();
+        this.localAddress = connection.getLocalAddress();
+        this.worker = connection.getWorker();
+        this.ioThread = connection.getIoThread();
+        this.undertowOptions = connection.getUndertowOptions();
+        this.transportProtocol = connection.getTransportProtocol();
+        this.bufferSize = connection.getBufferSize();
+        this.sslSessionInfo = connection.getSslSessionInfo();
+    }
+
+    @Override
+    @Deprecated
+    public Pool<ByteBuffer> getBufferPool() {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    public ByteBufferPool getByteBufferPool() {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    public XnioWorker getWorker() {
+        return this.worker;
+    }
+
+    @Override
+    public XnioIoThread getIoThread() {
+        return this.ioThread;
+    }
+
+    @Override
+    public HttpServerExchange sendOutOfBandResponse(HttpServerExchange exchange) {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    public boolean isContinueResponseSupported() {
+        return false;
+    }
+
+    @Override
+    public void terminateRequestChannel(HttpServerExchange exchange) {
+        //Nothing to terminate
+    }
+
+    @Override
+    public boolean isOpen() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsOption(Option<?> option) {
+        return false;
+    }
+
+    @Override
+    public <T> T getOption(Option<T> option) {
+        return null;
+    }
+
+    @Override
+    public <T> T setOption(Option<T> option, T value) {
+        return null;
+    }
+
+    @Override
+    public void close() {
+        //Nothing to close
+    }
+
+    @Override
+    public SocketAddress getPeerAddress() {
+        return this.peerAddress;
+    }
+
+    @Override
+    public <A extends SocketAddress> A getPeerAddress(Class<A> type) {
+        return type.isInstance(this.peerAddress) ? type.cast(this.peerAddress) : null;
+    }
+
+    @Override
+    public ChannelListener.Setter<? extends ServerConnection> getCloseSetter() {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    public SocketAddress getLocalAddress() {
+        return this.localAddress;
+    }
+
+    @Override
+    public <A extends SocketAddress> A getLocalAddress(Class<A> type) {
+        return type.isInstance(this.localAddress) ? type.cast(this.localAddress) : null;
+    }
+
+    @Override
+    public OptionMap getUndertowOptions() {
+        return this.undertowOptions;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    @Override
+    public SSLSessionInfo getSslSessionInfo() {
+        return this.sslSessionInfo;
+    }
+
+    @Override
+    public void setSslSessionInfo(SSLSessionInfo sslSessionInfo) {
+        this.sslSessionInfo = sslSessionInfo;
+    }
+
+    @Override
+    public void addCloseListener(CloseListener listener) {
+        //A detached connection is never closed
+    }
+
+    @Override
+    protected StreamConnection upgradeChannel() {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    protected ConduitStreamSinkChannel getSinkChannel() {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    protected ConduitStreamSourceChannel getSourceChannel() {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    protected StreamSinkConduit getSinkConduit(HttpServerExchange exchange, StreamSinkConduit conduit) {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    protected boolean isUpgradeSupported() {
+        return false;
+    }
+
+    @Override
+    protected boolean isConnectSupported() {
+        return false;
+    }
+
+    @Override
+    protected void exchangeComplete(HttpServerExchange exchange) {
+        //Nothing was sent, so there is nothing to complete
+    }
+
+    @Override
+    protected void setUpgradeListener(HttpUpgradeListener listener) {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    protected void setConnectListener(HttpUpgradeListener listener) {
+        throw new UnsupportedOperationException(NOT_SUPPORTED);
+    }
+
+    @Override
+    protected void maxEntitySizeUpdated(HttpServerExchange exchange) {
+        //No request channel to update
+    }
+
+    @Override
+    public String getTransportProtocol() {
+        return this.transportProtocol;
+    }
+}
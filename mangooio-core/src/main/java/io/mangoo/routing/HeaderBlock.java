@@ -0,0 +1,118 @@
+package io.mangoo.routing;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.mangoo.configuration.Config;
+import io.mangoo.enums.ContentType;
+import io.mangoo.enums.Default;
+import io.mangoo.enums.Header;
+import io.mangoo.enums.Required;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.Headers;
+import io.undertow.util.HttpString;
+
+/**
+ * Immutable block of the default response headers of a route. The security and server
+ * headers from application.yaml are merged with the headers configured for the route
+ * once at startup, so a response only copies the precomputed names and values into the
+ * exchange instead of looking up each value in the configuration.
+ *
+ * Headers configured for a route override the default headers with the same name. A
+ * route header without a value removes the default header from the responses of the route.
+ *
+ * @author svenkubiak
+ *
+ */
+public final class HeaderBlock {
+    private static final String CHARSET = "; charset=";
+    private final Map<String, String> contentTypes = new HashMap<>();
+    private final HttpString [] names;
+    private final String [] values;
+    private final HttpString [] redirectNames;
+    private final String [] redirectValues;
+
+    public HeaderBlock(Config config, Map<String, String> routeHeaders) {
+        Objects.requireNonNull(config, Required.CONFIG.toString());
+        Objects.requireNonNull(routeHeaders, Required.HEADERS.toString());
+
+        final Map<HttpString, String> headers = new LinkedHashMap<>();
+        headers.put(Header.X_XSS_PPROTECTION.toHttpString(), String.valueOf(config.getXssProectionHeader()));
+        headers.put(Header.X_CONTENT_TYPE_OPTIONS.toHttpString(), config.getXContentTypeOptionsHeader());
+        headers.put(Header.X_FRAME_OPTIONS.toHttpString(), config.getXFrameOptionsHeader());
+        headers.put(Header.REFERER_POLICY.toHttpString(), config.getRefererPolicy());
+        headers.put(Headers.SERVER, config.getServerHeader());
+        headers.put(Header.CONTENT_SECURITY_POLICY.toHttpString(), config.getContentSecurityPolicyHeader());
+
+        final Map<HttpString, String> redirectHeaders = new LinkedHashMap<>();
+        redirectHeaders.put(Headers.SERVER, config.getServerHeader());
+
+        routeHeaders.forEach((name, value) -> {
+            final HttpString header = HttpString.tryFromString(name.trim());
+            if (StringUtils.isBlank(value)) {
+                headers.remove(header);
+                redirectHeaders.remove(header);
+            } else {
+                headers.put(header, value);
+                redirectHeaders.put(header, value);
+            }
+        });
+
+        this.names = headers.keySet().toArray(new HttpString[headers.size()]);
+        this.values = headers.values().toArray(new String[headers.size()]);
+        this.redirectNames = redirectHeaders.keySet().toArray(new HttpString[redirectHeaders.size()]);
+        this.redirectValues = redirectHeaders.values().toArray(new String[redirectHeaders.size()]);
+
+        for (final ContentType contentType : ContentType.values()) {
+            this.contentTypes.put(contentType.toString(), contentType.toString() + CHARSET + Default.ENCODING.toString());
+        }
+    }
+
+    /**
+     * Puts the headers of a rendered response and its content type into the given header map
+     *
+     * @param headerMap The response headers of the exchange
+     * @param contentType The content type of the response
+     * @param charset The charset of the response
+     */
+    public void apply(HeaderMap headerMap, String contentType, String charset) {
+        for (int i = 0; i < this.names.length; i++) {
+            headerMap.put(this.names[i], this.values[i]);
+        }
+        headerMap.put(Headers.CONTENT_TYPE, getContentType(contentType, charset));
+    }
+
+    /**
+     * Puts the headers of a redirect response into the given header map
+     *
+     * @param headerMap The response headers of the exchange
+     */
+    public void applyRedirect(HeaderMap headerMap) {
+        for (int i = 0; i < this.redirectNames.length; i++) {
+            headerMap.put(this.redirectNames[i], this.redirectValues[i]);
+        }
+    }
+
+    /**
+     * Returns the value of the Content-Type header, which is precomputed for all known
+     * content types with the default charset
+     *
+     * @param contentType The content type of the response
+     * @param charset The charset of the response
+     * @return The content type with its charset parameter
+     */
+    public String getContentType(String contentType, String charset) {
+        if (Default.ENCODING.toString().equals(charset)) {
+            final String value = this.contentTypes.get(contentType);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        return contentType + CHARSET + charset;
+    }
+}
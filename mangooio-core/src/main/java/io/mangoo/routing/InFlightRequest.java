@@ -0,0 +1,70 @@
+package io.mangoo.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import io.mangoo.enums.Required;
+
+/**
+ * A request which is currently processed by the request chain and whose
+ * response is shared with all identical requests arriving in the meantime
+ *
+ * @author svenkubiak
+ *
+ */
+public final class InFlightRequest {
+    private final List<Consumer<CachedResponse>> subscribers = new ArrayList<>();
+    private CachedResponse response;
+    private boolean completed;
+
+    /**
+     * Registers a subscriber which is called once the request is completed. If the request
+     * is already completed, the subscriber is called immediately in the calling thread.
+     *
+     * @param subscriber The subscriber receiving the shared response or null if the response can not be shared
+     */
+    public void subscribe(Consumer<CachedResponse> subscriber) {
+        Objects.requireNonNull(subscriber, Required.OBJECT.toString());
+
+        synchronized (this) {
+            if (!this.completed) {
+                this.subscribers.add(subscriber);
+                return;
+            }
+        }
+
+        subscriber.accept(this.response);
+    }
+
+    /**
+     * Removes a subscriber which stopped waiting for the request, e.g. because its timeout expired
+     *
+     * @param subscriber The subscriber to remove
+     */
+    public synchronized void unsubscribe(Consumer<CachedResponse> subscriber) {
+        this.subscribers.remove(subscriber);
+    }
+
+    /**
+     * Completes the request and passes the response to all subscribers
+     *
+     * @param cachedResponse The shared response or null if the response can not be shared
+     */
+    public void complete(CachedResponse cachedResponse) {
+        final List<Consumer<CachedResponse>> waiting;
+        synchronized (this) {
+            if (this.completed) {
+                return;
+            }
+
+            this.response = cachedResponse;
+            this.completed = true;
+            waiting = new ArrayList<>(this.subscribers);
+            this.subscribers.clear();
+        }
+
+        waiting.forEach(subscriber -> subscriber.accept(cachedResponse));
+    }
+}
@@ -0,0 +1,26 @@
+package io.mangoo.routing;
+
+import java.io.IOException;
+
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * Binds the value of a single controller method parameter for the current request
+ *
+ * @author svenkubiak
+ *
+ */
+@FunctionalInterface
+public interface ParameterBinder {
+
+    /**
+     * Retrieves the value for the controller method parameter
+     *
+     * @param attachment The attachment of the current request
+     * @param exchange The Undertow HttpServerExchange
+     * @return The converted value or null if no value is present
+     *
+     * @throws IOException If reading the request failed
+     */
+    public Object bind(Attachment attachment, HttpServerExchange exchange) throws IOException;
+}
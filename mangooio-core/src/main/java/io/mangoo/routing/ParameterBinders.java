@@ -0,0 +1,111 @@
+package io.mangoo.routing;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.mangoo.enums.Binding;
+import io.mangoo.enums.Required;
+import io.mangoo.utils.JsonUtils;
+import io.mangoo.utils.RequestUtils;
+
+/**
+ * Creates the parameter binders of a controller method once at startup,
+ * so that a request only has to walk the resulting array
+ *
+ * @author svenkubiak
+ *
+ */
+public final class ParameterBinders {
+
+    private ParameterBinders() {
+    }
+
+    /**
+     * Creates an array of binders in the order of the given controller method parameters
+     *
+     * @param methodParameters The method parameters with their name and class type
+     * @return An array of binders, one per method parameter
+     */
+    public static ParameterBinder[] create(Map<String, Class<?>> methodParameters) {
+        Objects.requireNonNull(methodParameters, Required.METHOD_PARAMETERS.toString());
+
+        final ParameterBinder [] binders = new ParameterBinder[methodParameters.size()];
+        int index = 0;
+        for (final Map.Entry<String, Class<?>> entry : methodParameters.entrySet()) {
+            binders[index] = create(entry.getKey(), entry.getValue());
+            index++;
+        }
+
+        return binders;
+    }
+
+    /**
+     * Creates a binder for a single controller method parameter
+     *
+     * @param key The name of the parameter
+     * @param clazz The class type of the parameter
+     * @return A binder for the parameter
+     */
+    public static ParameterBinder create(String key, Class<?> clazz) {
+        Objects.requireNonNull(key, Required.KEY.toString());
+        Objects.requireNonNull(clazz, Required.CLASS.toString());
+
+        final Binding binding = Optional.ofNullable(Binding.fromString(clazz.getName())).orElse(Binding.UNDEFINED);
+        switch (binding) {
+        case FORM:
+            return (attachment, exchange) -> attachment.getForm();
+        case AUTHENTICATION:
+            return (attachment, exchange) -> attachment.getAuthentication();
+        case SESSION:
+            return (attachment, exchange) -> attachment.getSession();
+        case FLASH:
+            return (attachment, exchange) -> attachment.getFlash();
+        case REQUEST:
+            return (attachment, exchange) -> attachment.getRequest();
+        case LOCALDATE:
+            return parameter(key, LocalDate::parse);
+        case LOCALDATETIME:
+            return parameter(key, LocalDateTime::parse);
+        case STRING:
+            return parameter(key, Function.identity());
+        case STRING_ARRAY:
+            return (attachment, exchange) -> attachment.getRequest().getParameterValues(key).toArray(new String[0]);
+        case INT_PRIMITIVE:
+        case INTEGER:
+            return parameter(key, Integer::valueOf);
+        case DOUBLE_PRIMITIVE:
+        case DOUBLE:
+            return parameter(key, Double::valueOf);
+        case FLOAT_PRIMITIVE:
+        case FLOAT:
+            return parameter(key, Float::valueOf);
+        case LONG_PRIMITIVE:
+        case LONG:
+            return parameter(key, Long::valueOf);
+        case UNDEFINED:
+            return (attachment, exchange) -> RequestUtils.isJsonRequest(exchange) ? JsonUtils.fromJson(attachment.getRawBody(), clazz) : null;
+        default:
+            return (attachment, exchange) -> null;
+        }
+    }
+
+    /**
+     * Creates a binder which converts a request or query parameter with the given converter
+     *
+     * @param key The name of the request or query parameter
+     * @param converter The converter to apply on non blank values
+     * @return A binder for the parameter
+     */
+    private static ParameterBinder parameter(String key, Function<String, ?> converter) {
+        return (attachment, exchange) -> {
+            final String value = attachment.getRequestParameter().get(key);
+            return StringUtils.isBlank(value) ? null : converter.apply(value);
+        };
+    }
+}
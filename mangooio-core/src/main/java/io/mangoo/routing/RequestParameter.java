@@ -0,0 +1,127 @@
+package io.mangoo.routing;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.mangoo.enums.Required;
+
+/**
+ * Read-through view of the query parameters of a request and the path parameters
+ * of the matched route. Parameters are looked up in the structures of Undertow and
+ * the router when they are read instead of being copied into a new map on every request.
+ *
+ * Path parameters take precedence over query parameters with the same name. Values
+ * added to the map are kept separately and take precedence over both.
+ *
+ * @author svenkubiak
+ *
+ */
+public class RequestParameter extends AbstractMap<String, String> implements Serializable {
+    private static final long serialVersionUID = -2370592447409862406L;
+    private final transient Map<String, Deque<String>> queryParameters;
+    private final transient RouteMatch routeMatch;
+    private transient Map<String, String> values;
+
+    /**
+     * Creates a new view of the given request parameters
+     *
+     * @param queryParameters The query parameters of the request
+     * @param routeMatch The matched route containing the path parameters or null if there are none
+     */
+    public RequestParameter(Map<String, Deque<String>> queryParameters, RouteMatch routeMatch) {
+        this.queryParameters = Objects.requireNonNull(queryParameters, Required.REQUEST_PARAMETER.toString());
+        this.routeMatch = routeMatch;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+
+        if (this.values != null && this.values.containsKey(key)) {
+            return this.values.get(key);
+        }
+
+        if (this.routeMatch != null) {
+            final String value = this.routeMatch.getParameter((String) key);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        final Deque<String> deque = this.queryParameters.get(key);
+        return (deque == null) ? null : deque.peekFirst();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null || (this.values != null && this.values.containsKey(key));
+    }
+
+    @Override
+    public String put(String key, String value) {
+        Objects.requireNonNull(key, Required.KEY.toString());
+
+        final String previous = get(key);
+        if (this.values == null) {
+            this.values = new HashMap<>();
+        }
+        this.values.put(key, value);
+
+        return previous;
+    }
+
+    /**
+     * Retrieves all values of a request parameter, e.g. of ?id=1&amp;id=2
+     *
+     * @param key The name of the parameter
+     * @return An unmodifiable list of all values in the order of the request or an empty list if none found
+     */
+    public List<String> getAll(String key) {
+        Objects.requireNonNull(key, Required.KEY.toString());
+
+        if ((this.values != null && this.values.containsKey(key)) || (this.routeMatch != null && this.routeMatch.getParameter(key) != null)) {
+            final String value = get(key);
+            return (value == null) ? Collections.emptyList() : Collections.singletonList(value);
+        }
+
+        final Deque<String> deque = this.queryParameters.get(key);
+        return (deque == null) ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(deque));
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        this.queryParameters.forEach((key, deque) -> {
+            if (!deque.isEmpty()) {
+                parameters.put(key, deque.peekFirst());
+            }
+        });
+
+        if (this.routeMatch != null) {
+            for (int i = 0; i < this.routeMatch.getParameterCount(); i++) {
+                parameters.put(this.routeMatch.getParameterName(i), this.routeMatch.getParameterValue(i));
+            }
+        }
+
+        if (this.values != null) {
+            parameters.putAll(this.values);
+        }
+
+        return Collections.unmodifiableMap(parameters).entrySet();
+    }
+
+    private Object writeReplace() {
+        return new HashMap<>(this);
+    }
+}
@@ -1,15 +1,17 @@
 package io.mangoo.routing;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,6 +19,7 @@ import com.google.common.base.Charsets;
 
 import io.mangoo.enums.ContentType;
 import io.mangoo.enums.Required;
+import io.mangoo.interfaces.MangooStream;
 import io.mangoo.utils.JsonUtils;
 import io.undertow.server.handlers.Cookie;
 import io.undertow.util.Headers;
@@ -30,6 +33,9 @@ import io.undertow.util.StatusCodes;
  */
 public final class Response {
     private static final Logger LOG = LogManager.getLogger(Response.class);
+    private static final int STREAM_CHUNK_SIZE = 8192;
+    private static final byte [] NEW_LINE = {'\n'};
+    private static final byte [] CSV_NEW_LINE = {'\r', '\n'};
     private final Map<HttpString, String> headers = new HashMap<>();
     private final Map<String, Object> content = new HashMap<>();
     private final List<Cookie> cookies = new ArrayList<>();
@@ -37,9 +43,12 @@ public final class Response {
     private String contentType = ContentType.TEXT_PLAIN.toString();
     private String charset = Charsets.UTF_8.name();
     private String body = "";
+    private ByteBuffer bodyBuffer;
     private String template;
     private String binaryFileName;
     private byte[] binaryContent;
+    private File binaryFile;
+    private MangooStream stream;
     private boolean endResponse;
     private boolean etag;
     private boolean binary;
@@ -76,17 +85,62 @@ public final class Response {
     }
 
     public String getBody() {
+        if (this.body == null && this.bodyBuffer != null) {
+            this.body = StandardCharsets.UTF_8.decode(this.bodyBuffer.duplicate()).toString();
+        }
+
         return this.body;
     }
 
+    /**
+     * @return The body of the response as read-only ByteBuffer, which is only encoded if the
+     * body has been set as String
+     */
+    public ByteBuffer getBodyBuffer() {
+        if (this.bodyBuffer == null) {
+            final String value = (this.body == null) ? "" : this.body;
+            return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+        }
+
+        return this.bodyBuffer.asReadOnlyBuffer();
+    }
+
     public List<Cookie> getCookies() {
         return this.cookies;
     }
 
+    /**
+     * @return A copy of the binary content of the response. If the response sends a binary file,
+     * the file is read completely into memory, which should be avoided for large files
+     */
     public byte[] getBinaryContent() {
+        if (this.binaryContent == null && this.binaryFile != null) {
+            try {
+                return Files.readAllBytes(this.binaryFile.toPath());
+            } catch (final IOException e) {
+                LOG.error("Failed to read binary file", e);
+                return new byte[0];
+            }
+        }
+
         return this.binaryContent.clone();
     }
 
+    /**
+     * @return The binary content of the response as read-only ByteBuffer without copying it
+     * or null if the response sends a binary file
+     */
+    public ByteBuffer getBinaryBuffer() {
+        return (this.binaryContent == null) ? null : ByteBuffer.wrap(this.binaryContent).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return The binary file of the response or null if the response sends binary content
+     */
+    public File getBinaryFile() {
+        return this.binaryFile;
+    }
+
     public String getTemplate() {
         return this.template;
     }
@@ -111,6 +165,14 @@ public final class Response {
         return this.binary;
     }
 
+    public boolean isStream() {
+        return this.stream != null;
+    }
+
+    public MangooStream getStream() {
+        return this.stream;
+    }
+
     public boolean isRendered() {
         return this.rendered;
     }
@@ -275,6 +337,7 @@ public final class Response {
      */
     public Response andBody(String body) {
         this.body = body;
+        this.bodyBuffer = null;
         this.rendered = true;
         this.contentType = ContentType.TEXT_HTML.toString();
 
@@ -306,14 +369,101 @@ public final class Response {
         Objects.requireNonNull(jsonObject, Required.JSON_OBJECT.toString());
 
         this.contentType = ContentType.APPLICATION_JSON.toString();
-        this.body = JsonUtils.toJson(jsonObject);
+        this.bodyBuffer = JsonUtils.toJsonBuffer(jsonObject);
+        this.body = null;
+        this.rendered = true;
+
+        return this;
+    }
+
+    /**
+     * Streams the body of the response to the client chunk by chunk with chunked transfer
+     * encoding, skipping rendering. The next chunk is requested from the stream once the
+     * previous chunk has been written to the client, so that large responses are sent
+     * with constant memory.
+     *
+     * @param stream The stream producing the chunks of the response
+     * @return A response object {@link io.mangoo.routing.Response}
+     */
+    public Response andStream(MangooStream stream) {
+        Objects.requireNonNull(stream, Required.STREAM.toString());
+
+        this.stream = stream;
         this.rendered = true;
 
         return this;
     }
 
     /**
-     * Sends a binary file to the client skipping rendering
+     * Streams the elements of the given iterator as newline delimited JSON, one element
+     * per line. The content type of the response will be set to "application/x-ndjson"
+     *
+     * @param iterator The iterator of the objects to convert to JSON
+     * @return A response object {@link io.mangoo.routing.Response}
+     */
+    public Response andJsonStream(Iterator<?> iterator) {
+        Objects.requireNonNull(iterator, Required.ITERATOR.toString());
+
+        this.contentType = ContentType.APPLICATION_NDJSON.toString();
+        return andStream(chunk -> {
+            while (iterator.hasNext() && chunk.size() < STREAM_CHUNK_SIZE) {
+                final ByteBuffer json = JsonUtils.toJsonBuffer(iterator.next());
+                chunk.write(json.array(), json.arrayOffset() + json.position(), json.remaining());
+                chunk.write(NEW_LINE);
+            }
+
+            return iterator.hasNext();
+        });
+    }
+
+    /**
+     * Streams the rows of the given iterator as CSV according to RFC 4180, one row
+     * per line. The content type of the response will be set to "text/csv"
+     *
+     * @param iterator The iterator of the rows, each containing the values of its columns
+     * @return A response object {@link io.mangoo.routing.Response}
+     */
+    public Response andCsvStream(Iterator<? extends Iterable<?>> iterator) {
+        Objects.requireNonNull(iterator, Required.ITERATOR.toString());
+
+        this.contentType = ContentType.TEXT_CSV.toString();
+        return andStream(chunk -> {
+            final StringBuilder buffer = new StringBuilder();
+            while (iterator.hasNext() && chunk.size() < STREAM_CHUNK_SIZE) {
+                buffer.setLength(0);
+                boolean first = true;
+                for (final Object value : iterator.next()) {
+                    if (!first) {
+                        buffer.append(',');
+                    }
+                    appendCsvValue(buffer, value);
+                    first = false;
+                }
+                chunk.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+                chunk.write(CSV_NEW_LINE);
+            }
+
+            return iterator.hasNext();
+        });
+    }
+
+    private static void appendCsvValue(StringBuilder buffer, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        final String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\r') < 0 && text.indexOf('\n') < 0) {
+            buffer.append(text);
+        } else {
+            buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    /**
+     * Sends a binary file to the client skipping rendering. The file is not read into
+     * memory but transferred from disk when the response is sent, supporting byte ranges
+     * for resumable downloads.
      *
      * @param file The file to send
      * @return A response object {@link io.mangoo.routing.Response}
@@ -321,14 +471,11 @@ public final class Response {
     public Response andBinaryFile(File file) {
         Objects.requireNonNull(file, Required.FILE.toString());
 
-        try (FileInputStream fileInputStream = new FileInputStream(file)){
-            this.binaryFileName = file.getName();
-            this.binaryContent = IOUtils.toByteArray(fileInputStream);
-            this.binary = true;
-            this.rendered = true;
-        } catch (final IOException e) {
-            LOG.error("Failed to handle binary file", e);
-        }
+        this.binaryFileName = file.getName();
+        this.binaryFile = file;
+        this.binaryContent = null;
+        this.binary = true;
+        this.rendered = true;
 
         return this;
     }
@@ -343,6 +490,7 @@ public final class Response {
         Objects.requireNonNull(content, Required.CONTENT.toString());
 
         this.binaryContent = content.clone();
+        this.binaryFile = null;
         this.binary = true;
         this.rendered = true;
 
@@ -360,6 +508,24 @@ public final class Response {
     public Response andTextBody(String text) {
         this.contentType = ContentType.TEXT_PLAIN.toString();
         this.body = text;
+        this.bodyBuffer = null;
+        this.rendered = true;
+
+        return this;
+    }
+
+    /**
+     * Sets an already encoded body of the response, e.g. from a cached response.
+     * The content type and charset of the response are not changed.
+     *
+     * @param bodyBuffer The UTF-8 encoded body
+     * @return A response object {@link io.mangoo.routing.Response}
+     */
+    Response andBodyBuffer(ByteBuffer bodyBuffer) {
+        Objects.requireNonNull(bodyBuffer, Required.BODY.toString());
+
+        this.bodyBuffer = bodyBuffer;
+        this.body = null;
         this.rendered = true;
 
         return this;
@@ -1,7 +1,11 @@
 package io.mangoo.routing;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import io.mangoo.enums.ExecutorType;
 import io.mangoo.enums.Required;
 import io.mangoo.enums.RouteType;
 import io.undertow.util.HttpString;
@@ -19,10 +23,24 @@ public class Route {
     private String url;
     private String username;
     private String password;
+    private ExecutorType executor;
+    private String pool;
+    private String validator;
+    private String [] vary = new String[0];
+    private Map<String, String> headers = new HashMap<>();
     private int limit;
+    private int cache;
+    private int stale;
+    private int concurrency;
+    private int queue;
+    private long maxEntitySize;
+    private long timeout;
     private boolean authentication;
     private boolean blocking;
     private boolean timer;
+    private boolean stateless;
+    private boolean coalesce;
+    private boolean ioThread;
     private boolean internalTemplateEngine;
 
     public Route(RouteType routeType) {
@@ -94,6 +112,80 @@ public class Route {
         return this;
     }
 
+    public Route withStateless(boolean stateless) {
+        this.stateless = stateless;
+        return this;
+    }
+
+    public Route withExecutor(ExecutorType executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public Route withTimeout(long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public Route withPool(String pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    public Route withValidator(String validator) {
+        this.validator = validator;
+        return this;
+    }
+
+    public Route withHeaders(Map<String, String> headers) {
+        if (headers != null) {
+            this.headers = headers;
+        }
+        return this;
+    }
+
+    public Route withConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public Route withQueue(int queue) {
+        this.queue = queue;
+        return this;
+    }
+
+    public Route withCoalesce(boolean coalesce) {
+        this.coalesce = coalesce;
+        return this;
+    }
+
+    public Route withIoThread(boolean ioThread) {
+        this.ioThread = ioThread;
+        return this;
+    }
+
+    public Route withMaxEntitySize(long maxEntitySize) {
+        this.maxEntitySize = maxEntitySize;
+        return this;
+    }
+
+    public Route withCache(int cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    public Route withStale(int stale) {
+        this.stale = stale;
+        return this;
+    }
+
+    public Route withVary(List<String> vary) {
+        if (vary != null) {
+            this.vary = vary.toArray(new String[vary.size()]);
+        }
+        return this;
+    }
+
     public Route withLimit(int limit) {
         this.limit = limit;
         return this;
@@ -107,6 +199,30 @@ public class Route {
         return this.limit;
     }
     
+    public int getCache() {
+        return this.cache;
+    }
+    
+    public long getTimeout() {
+        return this.timeout;
+    }
+    
+    public int getStale() {
+        return this.stale;
+    }
+    
+    public String[] getVary() {
+        return this.vary;
+    }
+    
+    public long getMaxEntitySize() {
+        return this.maxEntitySize;
+    }
+    
+    public boolean isIoThread() {
+        return this.ioThread;
+    }
+    
     public String getUsername() {
         return this.username;
     }    
@@ -146,4 +262,36 @@ public class Route {
     public boolean isTimerEnabled() {
         return this.timer;
     }
+    
+    public boolean isStateless() {
+        return this.stateless;
+    }
+    
+    public ExecutorType getExecutor() {
+        return this.executor;
+    }
+    
+    public String getPool() {
+        return this.pool;
+    }
+    
+    public String getValidator() {
+        return this.validator;
+    }
+
+    public Map<String, String> getHeaders() {
+        return this.headers;
+    }
+
+    public int getConcurrency() {
+        return this.concurrency;
+    }
+    
+    public int getQueue() {
+        return this.queue;
+    }
+    
+    public boolean isCoalesce() {
+        return this.coalesce;
+    }
 }
\ No newline at end of file
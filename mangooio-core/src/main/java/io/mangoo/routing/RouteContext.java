@@ -0,0 +1,269 @@
+package io.mangoo.routing;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.mangoo.crypto.Crypto;
+import io.mangoo.enums.Required;
+import io.mangoo.i18n.Messages;
+import io.mangoo.interfaces.MangooFilter;
+import io.mangoo.templating.TemplateEngine;
+
+/**
+ * Information of a route which is the same for every request of the route. The context
+ * is created once per route and referenced by the attachment of each request instead of
+ * being copied into it.
+ *
+ * @author svenkubiak
+ *
+ */
+public class RouteContext {
+    private int methodParametersCount;
+    private int limit;
+    private Class<?> controllerClass;
+    private Map<String, Class<?>> methodParameters;
+    private ParameterBinder [] binders;
+    private String controllerClassName;
+    private String controllerMethodName;
+    private String username;
+    private String password;
+    private Method method;
+    private ControllerInvoker invoker;
+    private ControllerInvoker validator;
+    private ParameterBinder [] validatorBinders;
+    private Executor executor;
+    private Crypto crypto;
+    private Messages messages;
+    private TemplateEngine templateEngine;
+    private boolean requestFilter;
+    private boolean timer;
+    private boolean async;
+    private List<Annotation> classAnnotations;
+    private List<Annotation> methodAnnotations;
+    private MangooFilter [] filters;
+
+    public static RouteContext build() {
+        return new RouteContext();
+    }
+
+    public RouteContext withControllerClass(Class<?> controllerClass) {
+        this.controllerClass = Objects.requireNonNull(controllerClass, Required.CONTROLLER_CLASS.toString());
+        return this;
+    }
+
+    public RouteContext withControllerClassName(String controllerClassName) {
+        this.controllerClassName = Objects.requireNonNull(controllerClassName, Required.CONTROLLER_NAME.toString());
+        return this;
+    }
+
+    public RouteContext withControllerMethodName(String controllerMethodName) {
+        this.controllerMethodName = Objects.requireNonNull(controllerMethodName, Required.CONTROLLER_METHOD.toString());
+        return this;
+    }
+
+    public RouteContext withCrypto(Crypto crypto) {
+        this.crypto = Objects.requireNonNull(crypto, Required.CRYPTO.toString());
+        return this;
+    }
+
+    public RouteContext withMethodParameters(Map<String, Class<?>> methodParameters) {
+        this.methodParameters = Objects.requireNonNull(methodParameters, Required.METHOD_PARAMETERS.toString());
+        return this;
+    }
+
+    public RouteContext withBinders(ParameterBinder [] binders) {
+        this.binders = Objects.requireNonNull(binders, Required.METHOD_PARAMETERS.toString());
+        return this;
+    }
+
+    public RouteContext withMessages(Messages messages) {
+        this.messages = Objects.requireNonNull(messages, Required.MESSAGES.toString());
+        return this;
+    }
+
+    public RouteContext withTemplateEngine(TemplateEngine templateEngine) {
+        this.templateEngine = Objects.requireNonNull(templateEngine, Required.TEMPLATE_ENGINE.toString());
+        return this;
+    }
+
+    public RouteContext withMethod(Method method) {
+        this.method = Objects.requireNonNull(method, Required.METHOD.toString());
+        return this;
+    }
+
+    public RouteContext withInvoker(ControllerInvoker invoker) {
+        this.invoker = Objects.requireNonNull(invoker, Required.METHOD.toString());
+        return this;
+    }
+
+    public RouteContext withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public RouteContext withValidator(ControllerInvoker validator) {
+        this.validator = validator;
+        return this;
+    }
+
+    public RouteContext withValidatorBinders(ParameterBinder [] validatorBinders) {
+        this.validatorBinders = Objects.requireNonNull(validatorBinders, Required.METHOD_PARAMETERS.toString());
+        return this;
+    }
+
+    public RouteContext withMethodParameterCount(int methodParametersCount) {
+        this.methodParametersCount = methodParametersCount;
+        return this;
+    }
+
+    public RouteContext withRequestFilter(boolean hasRequestFilter) {
+        this.requestFilter = hasRequestFilter;
+        return this;
+    }
+
+    public RouteContext withFilters(MangooFilter [] filters) {
+        this.filters = Objects.requireNonNull(filters, Required.FILTERS.toString());
+        return this;
+    }
+
+    public RouteContext withClassAnnotations(List<Annotation> classAnnotations) {
+        this.classAnnotations = classAnnotations;
+        return this;
+    }
+
+    public RouteContext withMethodAnnotations(List<Annotation> methodAnnotations) {
+        this.methodAnnotations = methodAnnotations;
+        return this;
+    }
+
+    public RouteContext withTimer(boolean timer) {
+        this.timer = timer;
+        return this;
+    }
+
+    public RouteContext withLimit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    public RouteContext withAsync(boolean async) {
+        this.async = async;
+        return this;
+    }
+
+    public RouteContext withUsername(String username) {
+        this.username = username;
+        return this;
+    }
+
+    public RouteContext withPassword(String password) {
+        this.password = password;
+        return this;
+    }
+
+    public Messages getMessages() {
+        return this.messages;
+    }
+
+    public Crypto getCrypto() {
+        return this.crypto;
+    }
+
+    public boolean hasRequestFilter() {
+        return this.requestFilter;
+    }
+
+    public Method getMethod() {
+        return this.method;
+    }
+
+    public ControllerInvoker getInvoker() {
+        return this.invoker;
+    }
+
+    public ControllerInvoker getValidator() {
+        return this.validator;
+    }
+
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    public ParameterBinder[] getValidatorBinders() {
+        return this.validatorBinders;
+    }
+
+    public Class<?> getControllerClass() {
+        return this.controllerClass;
+    }
+
+    public Map<String, Class<?>> getMethodParameters() {
+        return this.methodParameters;
+    }
+
+    public ParameterBinder[] getBinders() {
+        return this.binders;
+    }
+
+    public TemplateEngine getTemplateEngine() {
+        return this.templateEngine;
+    }
+
+    public String getControllerClassName() {
+        return this.controllerClassName;
+    }
+
+    public String getControllerMethodName() {
+        return this.controllerMethodName;
+    }
+
+    public int getMethodParametersCount() {
+        return this.methodParametersCount;
+    }
+
+    public boolean hasTimer() {
+        return this.timer;
+    }
+
+    public String getUsername() {
+        return this.username;
+    }
+
+    public String getPassword() {
+        return this.password;
+    }
+
+    public int getLimit() {
+        return this.limit;
+    }
+
+    public boolean hasAuthentication() {
+        return StringUtils.isNotBlank(this.username) && StringUtils.isNotBlank(this.password);
+    }
+
+    public boolean isAsync() {
+        return this.async;
+    }
+
+    public boolean hasLimit() {
+        return this.limit > 0;
+    }
+
+    public MangooFilter[] getFilters() {
+        return this.filters;
+    }
+
+    public List<Annotation> getClassAnnotations() {
+        return this.classAnnotations;
+    }
+
+    public List<Annotation> getMethodAnnotations() {
+        return this.methodAnnotations;
+    }
+}
@@ -0,0 +1,61 @@
+package io.mangoo.routing;
+
+import io.undertow.server.HttpHandler;
+
+/**
+ * Result of a lookup in a {@link RouteTree}, holding the matched handler
+ * and the extracted path parameters as plain arrays
+ *
+ * @author svenkubiak
+ *
+ */
+public final class RouteMatch {
+    private final HttpHandler handler;
+    private final String [] names;
+    private final String [] values;
+
+    RouteMatch(HttpHandler handler, String [] names, String [] values) {
+        this.handler = handler;
+        this.names = names;
+        this.values = values;
+    }
+
+    public HttpHandler getHandler() {
+        return this.handler;
+    }
+
+    /**
+     * @return The number of path parameters extracted from the request path
+     */
+    public int getParameterCount() {
+        return this.names.length;
+    }
+
+    public String getParameterName(int index) {
+        return this.names[index];
+    }
+
+    public String getParameterValue(int index) {
+        return this.values[index];
+    }
+
+    void setParameterValue(int index, String value) {
+        this.values[index] = value;
+    }
+
+    /**
+     * Retrieves the value of a path parameter by its name
+     *
+     * @param name The name of the path parameter
+     * @return The value of the path parameter or null if the route has no such parameter
+     */
+    public String getParameter(String name) {
+        for (int i = 0; i < this.names.length; i++) {
+            if (this.names[i].equals(name)) {
+                return this.values[i];
+            }
+        }
+
+        return null;
+    }
+}
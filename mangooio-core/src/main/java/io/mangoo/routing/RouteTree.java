@@ -0,0 +1,244 @@
+package io.mangoo.routing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.base.Preconditions;
+
+import io.mangoo.enums.Required;
+import io.undertow.server.HttpHandler;
+
+/**
+ * Path lookup tree for the routes of a single HTTP method
+ *
+ * Routes are split into their path segments. Static segments are always
+ * tried before parameterized segments ({name}) which are tried before a
+ * trailing wildcard (*). Fully static routes are additionally kept in a
+ * flat map, so they are resolved with a single lookup and without any
+ * allocation.
+ *
+ * All other lookups compare the segments of the request path in place and
+ * only create the parameter values once a route matched, so a request path
+ * without a matching route is rejected without any allocation.
+ *
+ * @author svenkubiak
+ *
+ */
+public final class RouteTree {
+    private static final String [] NO_VALUES = new String[0];
+    private static final String WILDCARD = "*";
+    private final Map<String, RouteMatch> staticRoutes = new HashMap<>();
+    private final Node root = new Node();
+
+    /**
+     * Adds a new path template to the tree. An already mapped path template
+     * is replaced by the new handler.
+     *
+     * @param url The path template, e.g. /foo/{bar}
+     * @param handler The handler to execute when the path template matches
+     */
+    public synchronized void add(String url, HttpHandler handler) {
+        Objects.requireNonNull(url, Required.URL.toString());
+        Objects.requireNonNull(handler, Required.HTTP_HANDLER.toString());
+
+        final String path = normalize(url);
+        final List<String> names = new ArrayList<>();
+        Node node = this.root;
+        boolean wildcard = false;
+
+        int start = 1;
+        while (start < path.length()) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = path.length();
+            }
+
+            final String segment = path.substring(start, end);
+            if (WILDCARD.equals(segment)) {
+                Preconditions.checkArgument(end == path.length(), "Wildcard is only allowed as last segment in '" + url + "'");
+                wildcard = true;
+            } else if (segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}') {
+                names.add(segment.substring(1, segment.length() - 1));
+                if (node.parameter == null) {
+                    node.parameter = new Node();
+                }
+                node = node.parameter;
+            } else {
+                Preconditions.checkArgument(segment.indexOf('{') == -1 && segment.indexOf('}') == -1, "Path parameters must span a complete segment in '" + url + "'");
+                node = node.addChild(segment);
+            }
+
+            start = end + 1;
+        }
+
+        final String [] parameterNames = names.toArray(new String[names.size()]);
+        if (wildcard) {
+            node.wildcard = handler;
+            node.wildcardNames = parameterNames;
+        } else {
+            node.handler = handler;
+            node.names = parameterNames;
+            if (parameterNames.length == 0) {
+                this.staticRoutes.put(path, new RouteMatch(handler, NO_VALUES, NO_VALUES));
+            }
+        }
+    }
+
+    /**
+     * Looks up the given request path
+     *
+     * @param requestPath The decoded request path, e.g. /foo/bar
+     * @return The matching route with its path parameters or null if no route matches
+     */
+    public RouteMatch match(String requestPath) {
+        Objects.requireNonNull(requestPath, Required.PATH.toString());
+
+        final String path = normalize(requestPath);
+        final RouteMatch routeMatch = this.staticRoutes.get(path);
+        if (routeMatch != null) {
+            return routeMatch;
+        }
+
+        return find(this.root, path, 1, 0);
+    }
+
+    /**
+     * Walks the tree along the segments of the given path. The parameter values are
+     * set while returning from a successful match, so a path without a matching route
+     * is rejected without creating any object.
+     */
+    private static RouteMatch find(Node node, String path, int start, int index) {
+        if (start >= path.length()) {
+            if (node.handler != null) {
+                return createMatch(node.handler, node.names);
+            }
+
+            return (node.wildcard == null) ? null : createMatch(node.wildcard, node.wildcardNames);
+        }
+
+        int end = path.indexOf('/', start);
+        if (end == -1) {
+            end = path.length();
+        }
+
+        final Node child = node.getChild(path, start, end);
+        if (child != null) {
+            final RouteMatch routeMatch = find(child, path, end + 1, index);
+            if (routeMatch != null) {
+                return routeMatch;
+            }
+        }
+
+        if (node.parameter != null && end > start) {
+            final RouteMatch routeMatch = find(node.parameter, path, end + 1, index + 1);
+            if (routeMatch != null) {
+                routeMatch.setParameterValue(index, path.substring(start, end));
+                return routeMatch;
+            }
+        }
+
+        return (node.wildcard == null) ? null : createMatch(node.wildcard, node.wildcardNames);
+    }
+
+    private static RouteMatch createMatch(HttpHandler handler, String [] names) {
+        return new RouteMatch(handler, names, (names.length == 0) ? NO_VALUES : new String[names.length]);
+    }
+
+    private static String normalize(String path) {
+        String normalized = path;
+        if (normalized.isEmpty() || normalized.charAt(0) != '/') {
+            normalized = "/" + normalized;
+        }
+
+        if (normalized.length() > 1 && normalized.charAt(normalized.length() - 1) == '/') {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+
+        return normalized;
+    }
+
+    /**
+     * Node of the tree. The static child segments are kept in an open addressing table,
+     * so a segment of the request path is looked up by hashing and comparing it in place.
+     */
+    private static final class Node {
+        private static final Node [] NO_CHILDREN = new Node[0];
+        private String [] segments = NO_VALUES;
+        private Node [] children = NO_CHILDREN;
+        private int size;
+        private Node parameter;
+        private HttpHandler handler;
+        private String [] names;
+        private HttpHandler wildcard;
+        private String [] wildcardNames;
+
+        private Node addChild(String segment) {
+            final Node existing = getChild(segment, 0, segment.length());
+            if (existing != null) {
+                return existing;
+            }
+
+            if ((this.size + 1) * 2 > this.segments.length) {
+                resize(Math.max(4, this.segments.length * 2));
+            }
+
+            final Node child = new Node();
+            put(segment, child);
+            this.size++;
+
+            return child;
+        }
+
+        private Node getChild(String path, int start, int end) {
+            if (this.size == 0) {
+                return null;
+            }
+
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+
+            final int length = end - start;
+            final int mask = this.segments.length - 1;
+            for (int i = spread(hash) & mask; this.segments[i] != null; i = (i + 1) & mask) {
+                final String segment = this.segments[i];
+                if (segment.length() == length && path.regionMatches(start, segment, 0, length)) {
+                    return this.children[i];
+                }
+            }
+
+            return null;
+        }
+
+        private void resize(int capacity) {
+            final String [] oldSegments = this.segments;
+            final Node [] oldChildren = this.children;
+            this.segments = new String[capacity];
+            this.children = new Node[capacity];
+            for (int i = 0; i < oldSegments.length; i++) {
+                if (oldSegments[i] != null) {
+                    put(oldSegments[i], oldChildren[i]);
+                }
+            }
+        }
+
+        private void put(String segment, Node child) {
+            final int mask = this.segments.length - 1;
+            int i = spread(segment.hashCode()) & mask;
+            while (this.segments[i] != null) {
+                i = (i + 1) & mask;
+            }
+            this.segments[i] = segment;
+            this.children[i] = child;
+        }
+
+        private static int spread(int hash) {
+            final int mixed = hash * 0x9E3779B9;
+            return mixed ^ (mixed >>> 16);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package io.mangoo.routing.bindings;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,6 +17,8 @@ import com.jayway.jsonpath.ReadContext;
 
 import io.mangoo.enums.Required;
 import io.mangoo.models.JsonWebToken;
+import io.mangoo.routing.Deadline;
+import io.mangoo.routing.RequestParameter;
 import io.mangoo.utils.JsonUtils;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.Cookie;
@@ -32,9 +37,11 @@ public class Request extends Validator implements Serializable {
     private transient JsonWebToken jsonWebToken;
     private transient Session session;
     private transient Authentication authentication;
+    private transient Deadline deadline;
     private Map<String, Cookie> cookies; //NOSONAR
     private Map<String, Object> attributes = new HashMap<>(); //NOSONAR
     private String body;
+    private byte[] rawBody;
     private String authenticity;
     private Map<String, String> parameter;
 
@@ -47,7 +54,6 @@ public class Request extends Validator implements Serializable {
         Objects.requireNonNull(httpServerExchange, Required.HTTP_SERVER_EXCHANGE.toString());
 
         this.httpServerExchange = httpServerExchange;
-        this.cookies = (httpServerExchange.getRequestCookies() == null) ? new HashMap<>() : ImmutableMap.copyOf(httpServerExchange.getRequestCookies());
     }
 
     public Request withSession(Session session) {
@@ -55,6 +61,11 @@ public class Request extends Validator implements Serializable {
         return this;
     }
     
+    public Request withDeadline(Deadline deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+    
     public Request withAuthenticity(String authenticity) {
         this.authenticity = authenticity;
         return this;
@@ -76,6 +87,20 @@ public class Request extends Validator implements Serializable {
         return this;
     }
     
+    public Request withRawBody(byte[] rawBody) {
+        this.rawBody = rawBody;
+        this.body = null;
+        return this;
+    }
+    
+    /**
+     * @return The remaining time of the request in milliseconds, 0 if the deadline of the
+     * route is exceeded or Long.MAX_VALUE if the route has no deadline
+     */
+    public long getRemainingTime() {
+        return (this.deadline == null) ? Long.MAX_VALUE : this.deadline.getRemaining();
+    }
+
     /**
      * @return The current session
      */
@@ -88,6 +113,10 @@ public class Request extends Validator implements Serializable {
      * @return The request body
      */
     public String getBody() {
+        if (this.body == null && this.rawBody != null) {
+            this.body = new String(this.rawBody, StandardCharsets.UTF_8);
+        }
+
         return this.body;
     }
 
@@ -97,7 +126,9 @@ public class Request extends Validator implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public Map<String, Object> getBodyAsJsonMap() {
-        if (StringUtils.isNotBlank(this.body)) {
+        if (this.body == null && this.rawBody != null && this.rawBody.length > 0) {
+            return JsonUtils.fromJson(this.rawBody, Map.class);
+        } else if (StringUtils.isNotBlank(this.body)) {
             return JsonUtils.fromJson(this.body, Map.class);
         }
         
@@ -109,7 +140,7 @@ public class Request extends Validator implements Serializable {
      * @return The request body as JsonPath object
      */
     public ReadContext getBodyAsJsonPath() {
-        return JsonPath.parse(this.body);
+        return JsonPath.parse(getBody());
     }
 
     /**
@@ -139,6 +170,24 @@ public class Request extends Validator implements Serializable {
         return this.parameter.get(key);
     }
 
+    /**
+     * Retrieves all values of a request parameter (request or query parameter) by its name,
+     * e.g. both values of ?id=1&amp;id=2
+     *
+     * @param key The key to lookup the parameter
+     * @return An unmodifiable list of values or an empty list if none found
+     */
+    public List<String> getParameterValues(String key) {
+        Objects.requireNonNull(key, Required.KEY.toString());
+
+        if (this.parameter instanceof RequestParameter) {
+            return ((RequestParameter) this.parameter).getAll(key);
+        }
+
+        final String value = (this.parameter == null) ? null : this.parameter.get(key);
+        return (value == null) ? Collections.emptyList() : Collections.singletonList(value);
+    }
+
     /**
      * Retrieves a map of request parameter (request or query parameter)
      *
@@ -207,6 +256,10 @@ public class Request extends Validator implements Serializable {
      * @return An immutable map of request cookies
      */
     public Map<String, Cookie> getCookies() {
+        if (this.cookies == null) {
+            this.cookies = (this.httpServerExchange == null || this.httpServerExchange.getRequestCookies() == null) ? new HashMap<>() : ImmutableMap.copyOf(this.httpServerExchange.getRequestCookies());
+        }
+
         return this.cookies;
     }
 
@@ -217,7 +270,7 @@ public class Request extends Validator implements Serializable {
      * @return The Cookie
      */
     public Cookie getCookie(String name) {
-        return this.cookies.get(name);
+        return getCookies().get(name);
     }
 
     /**
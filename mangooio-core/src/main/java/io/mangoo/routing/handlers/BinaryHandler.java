@@ -1,5 +1,10 @@
 package io.mangoo.routing.handlers;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
 import java.util.Objects;
 
 import io.mangoo.configuration.Config;
@@ -7,17 +12,30 @@ import io.mangoo.core.Application;
 import io.mangoo.enums.ContentType;
 import io.mangoo.enums.Required;
 import io.mangoo.routing.Response;
+import io.undertow.io.IoCallback;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.PathResource;
+import io.undertow.server.handlers.resource.PathResourceManager;
+import io.undertow.util.ByteRange;
+import io.undertow.util.DateUtils;
 import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
 
 /**
+ * Sends binary content or a binary file to the client. Files are transferred from disk
+ * by Undertow without being copied into the heap and support single byte ranges, so that
+ * interrupted downloads can be resumed.
  *
  * @author svenkubiak
  *
  */
 public class BinaryHandler implements HttpHandler {
     private static final Config CONFIG = Application.getConfig();
+    private static final long TRANSFER_MIN_SIZE = 1024;
+    private static final PathResourceManager RESOURCE_MANAGER = new PathResourceManager(Paths.get(""), TRANSFER_MIN_SIZE);
+    private static final String BYTES = "bytes";
     private final Response response;
 
     public BinaryHandler(Response response) {
@@ -26,12 +44,70 @@ public class BinaryHandler implements HttpHandler {
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
-        exchange.startBlocking();
         exchange.setStatusCode(this.response.getStatusCode());
         exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, ContentType.APPLICATION_OCTET_STREAM.toString());
         exchange.getResponseHeaders().put(Headers.CONTENT_DISPOSITION, "inline; filename=" + this.response.getBinaryFileName());
         exchange.getResponseHeaders().put(Headers.SERVER, CONFIG.getServerHeader());
         this.response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().add(key, value)); // NOSONAR
-        exchange.getOutputStream().write(this.response.getBinaryContent());
+
+        if (this.response.getBinaryFile() == null) {
+            exchange.getResponseSender().send(this.response.getBinaryBuffer());
+        } else {
+            sendFile(exchange, this.response.getBinaryFile().toPath());
+        }
+    }
+
+    /**
+     * Sends a file to the client, answering conditional and range requests
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param path The path of the file to send
+     *
+     * @throws IOException
+     */
+    private void sendFile(HttpServerExchange exchange, Path path) throws IOException {
+        final long length = Files.size(path);
+        final Date lastModified = new Date(Files.getLastModifiedTime(path).toMillis());
+        final PathResource resource = new PathResource(path, RESOURCE_MANAGER, path.toString());
+
+        exchange.getResponseHeaders().put(Headers.ACCEPT_RANGES, BYTES);
+        exchange.getResponseHeaders().put(Headers.LAST_MODIFIED, DateUtils.toDateString(lastModified));
+
+        if (this.response.getStatusCode() == StatusCodes.OK) {
+            if (!DateUtils.handleIfModifiedSince(exchange, lastModified)) {
+                exchange.setStatusCode(StatusCodes.NOT_MODIFIED);
+                exchange.endExchange();
+                return;
+            }
+
+            final ByteRange range = ByteRange.parse(exchange.getRequestHeaders().getFirst(Headers.RANGE));
+            if (range != null && range.getRanges() == 1) {
+                final ByteRange.RangeResponseResult result = range.getResponseResult(length, exchange.getRequestHeaders().getFirst(Headers.IF_RANGE), lastModified, null);
+                if (result != null) {
+                    exchange.setStatusCode(result.getStatusCode());
+                    exchange.getResponseHeaders().put(Headers.CONTENT_RANGE, result.getContentRange());
+                    if (result.getStatusCode() == StatusCodes.REQUEST_RANGE_NOT_SATISFIABLE) {
+                        exchange.endExchange();
+                    } else {
+                        exchange.setResponseContentLength(result.getContentLength());
+                        send(exchange, resource, result.getStart(), result.getEnd());
+                    }
+                    return;
+                }
+            }
+        }
+
+        exchange.setResponseContentLength(length);
+        send(exchange, resource, -1, -1);
+    }
+
+    private static void send(HttpServerExchange exchange, PathResource resource, long start, long end) {
+        if (Methods.HEAD.equals(exchange.getRequestMethod())) {
+            exchange.endExchange();
+        } else if (start < 0) {
+            resource.serve(exchange.getResponseSender(), exchange, IoCallback.END_EXCHANGE);
+        } else {
+            resource.serveRange(exchange.getResponseSender(), exchange, start, end, IoCallback.END_EXCHANGE);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package io.mangoo.routing.handlers;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.inject.Inject;
+
+import io.mangoo.enums.Required;
+import io.mangoo.routing.Compressor;
+import io.undertow.predicate.Predicate;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.encoding.ContentEncodingRepository;
+import io.undertow.server.handlers.encoding.DeflateEncodingProvider;
+import io.undertow.server.handlers.encoding.EncodingHandler;
+import io.undertow.server.handlers.encoding.GzipEncodingProvider;
+import io.undertow.server.handlers.resource.ResourceHandler;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import io.undertow.util.MimeMappings;
+import io.undertow.util.StatusCodes;
+
+/**
+ * Compresses static assets served by a ResourceHandler. If the client accepts gzip and
+ * a precompressed .gz sibling of the requested asset exists, the sibling is served instead
+ * of compressing the asset on every request. All other compressible assets are compressed
+ * on the fly.
+ *
+ * @author svenkubiak
+ *
+ */
+public class CompressionHandler implements HttpHandler {
+    private static final String GZIP_EXTENSION = ".gz";
+    private static final int GZIP_PRIORITY = 100;
+    private static final int DEFLATE_PRIORITY = 50;
+    private final Map<String, Boolean> precompressed = new ConcurrentHashMap<>();
+    private final Compressor compressor;
+    private ResourceManager resourceManager;
+    private HttpHandler next;
+    private HttpHandler encodingHandler;
+
+    @Inject
+    public CompressionHandler(Compressor compressor) {
+        this.compressor = Objects.requireNonNull(compressor, Required.COMPRESSOR.toString());
+    }
+
+    /**
+     * Sets the resource handler serving the static assets
+     *
+     * @param next The ResourceHandler
+     * @return The CompressionHandler instance
+     */
+    public CompressionHandler withNext(ResourceHandler next) {
+        Objects.requireNonNull(next, Required.HTTP_HANDLER.toString());
+
+        final Predicate compressible = exchange -> exchange.getStatusCode() == StatusCodes.OK
+                && !exchange.getResponseHeaders().contains(Headers.CONTENT_ENCODING)
+                && this.compressor.isCompressible(exchange.getResponseHeaders().getFirst(Headers.CONTENT_TYPE), exchange.getResponseContentLength());
+
+        this.next = next;
+        this.resourceManager = next.getResourceManager();
+        this.encodingHandler = new EncodingHandler(next, new ContentEncodingRepository()
+                .addEncodingHandler(Compressor.GZIP, new GzipEncodingProvider(), GZIP_PRIORITY, compressible)
+                .addEncodingHandler(Compressor.DEFLATE, new DeflateEncodingProvider(), DEFLATE_PRIORITY, compressible));
+
+        return this;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if (!Methods.GET.equals(exchange.getRequestMethod()) && !Methods.HEAD.equals(exchange.getRequestMethod())) {
+            this.next.handleRequest(exchange);
+            return;
+        }
+
+        final String path = exchange.getRelativePath();
+        final String contentType = MimeMappings.DEFAULT.getMimeType(StringUtils.substringAfterLast(path, "."));
+        if (!this.compressor.isCompressible(contentType, -1)) {
+            this.next.handleRequest(exchange);
+            return;
+        }
+
+        exchange.getResponseHeaders().add(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+        if (Compressor.GZIP.equals(this.compressor.negotiate(exchange)) && hasPrecompressed(path)) {
+            exchange.setRelativePath(path + GZIP_EXTENSION);
+            exchange.addResponseCommitListener(committedExchange -> {
+                committedExchange.getResponseHeaders().put(Headers.CONTENT_TYPE, contentType);
+                committedExchange.getResponseHeaders().put(Headers.CONTENT_ENCODING, Compressor.GZIP);
+            });
+            this.next.handleRequest(exchange);
+        } else {
+            this.encodingHandler.handleRequest(exchange);
+        }
+    }
+
+    /**
+     * Checks if a precompressed sibling of an existing asset exists. The result is
+     * only remembered for existing assets, so requests for unknown paths can not
+     * grow the lookup map.
+     *
+     * @param path The path of the requested asset
+     * @return True if a .gz sibling of the asset exists, false otherwise
+     *
+     * @throws IOException
+     */
+    private boolean hasPrecompressed(String path) throws IOException {
+        final Boolean exists = this.precompressed.get(path);
+        if (exists != null) {
+            return exists;
+        }
+
+        if (this.resourceManager.getResource(path) == null) {
+            return false;
+        }
+
+        final boolean sibling = this.resourceManager.getResource(path + GZIP_EXTENSION) != null;
+        this.precompressed.put(path, sibling);
+
+        return sibling;
+    }
+}
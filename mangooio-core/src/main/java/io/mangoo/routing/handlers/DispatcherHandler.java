@@ -4,41 +4,116 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.xnio.XnioExecutor;
+
+import com.google.inject.Provider;
 
 import io.mangoo.annotations.FilterWith;
 import io.mangoo.configuration.Config;
 import io.mangoo.core.Application;
 import io.mangoo.crypto.Crypto;
+import io.mangoo.enums.ExecutorType;
 import io.mangoo.enums.Required;
 import io.mangoo.i18n.Messages;
+import io.mangoo.interfaces.MangooAsyncFilter;
+import io.mangoo.interfaces.MangooFilter;
 import io.mangoo.interfaces.MangooRequestFilter;
+import io.mangoo.managers.ExecutionManager;
+import io.mangoo.models.Metrics;
 import io.mangoo.routing.Attachment;
+import io.mangoo.routing.Bulkhead;
+import io.mangoo.routing.CachedResponse;
+import io.mangoo.routing.ConcurrencyLimiter;
+import io.mangoo.routing.ControllerInvoker;
+import io.mangoo.routing.Deadline;
+import io.mangoo.routing.HeaderBlock;
+import io.mangoo.routing.InFlightRequest;
+import io.mangoo.routing.ParameterBinder;
+import io.mangoo.routing.ParameterBinders;
+import io.mangoo.routing.Response;
+import io.mangoo.routing.RouteContext;
+import io.mangoo.routing.bindings.Authentication;
+import io.mangoo.routing.bindings.Flash;
+import io.mangoo.routing.bindings.Form;
+import io.mangoo.routing.bindings.Request;
+import io.mangoo.routing.bindings.Session;
+import io.mangoo.routing.listeners.CoalescingListener;
 import io.mangoo.routing.listeners.MetricsListener;
 import io.mangoo.templating.TemplateEngine;
+import io.mangoo.utils.ExecutorUtils;
 import io.mangoo.utils.RequestUtils;
+import io.undertow.Handlers;
+import io.undertow.server.Connectors;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import io.undertow.util.SameThreadExecutor;
+import io.undertow.util.StatusCodes;
 
 /**
  * Main class for dispatching a request to the request chain.
- * The request chain contains the following handlers in order:
+ * The request chain is assembled once per route and contains the following handlers in order:
  *
  * DispatcherHandler
- * LimitHandler
+ * LimitHandler (only if a limit is configured)
  * LocalHandler
- * InboundCookiesHandler
- * FormHandler
+ * InboundCookiesHandler (not for stateless routes)
+ * FormHandler (only for POST or PUT routes)
  * RequestHandler
- * OutboundCookiesHandler
+ * ResponseCacheHandler (only for cached routes)
+ * OutboundCookiesHandler (not for stateless routes)
  * ResponseHandler
  *
+ * Cached routes serve responses of anonymous requests from the response cache
+ * before any other handler of the chain is executed. The filters of the route are
+ * executed before a cached response is served and a request is passed to the
+ * request chain if a filter ends the response. Such hits are not counted against
+ * the limit of a route.
+ *
+ * Coalescing routes execute the chain only once for identical concurrent anonymous
+ * requests. All other identical requests which pass the filters of the route wait for
+ * the response of the executing request and fall back to their own execution if that response can not be shared
+ * or is not completed within the timeout of the route.
+ *
+ * Routes with a controller method or filter returning a CompletionStage suspend the
+ * request until the stage is completed or the timeout of the route expired.
+ *
+ * Routes with a timeout start a deadline when the request is passed to the request
+ * chain. Requests exceeding the deadline are answered with 503 Service Unavailable.
+ *
+ * Blocking routes are executed on the XNIO worker pool or, if the route or the
+ * application uses the virtual executor, on a virtual thread per request.
+ * Routes with a named pool are always executed on that pool.
+ *
+ * The body of POST and PUT requests is read on the IO thread. Afterwards the request
+ * is dispatched like a blocking request, unless the route continues on the IO thread.
+ *
+ * If the adaptive concurrency limiter is enabled, requests of all routes except the
+ * admin routes are rejected with 503 Service Unavailable once the current global
+ * limit is reached, before any handler of the chain is executed.
+ *
+ * Routes with a concurrency limit process at most the given number of requests at
+ * once. Further requests are queued up to the configured bound and rejected with
+ * 503 Service Unavailable once the queue is full.
+ *
  * @author svenkubiak
  *
  */
@@ -46,22 +121,56 @@ public class DispatcherHandler implements HttpHandler {
     private static final Logger LOG = LogManager.getLogger(DispatcherHandler.class);
     private static final Config CONFIG = Application.getConfig();
     private Method method;
+    private ControllerInvoker invoker;
+    private ControllerInvoker validator;
+    private ParameterBinder [] validatorBinders = new ParameterBinder[0];
+    private Map<String, Class<?>> validatorParameters = new LinkedHashMap<>();
     private List<Annotation> methodAnnotations = new ArrayList<>();
     private List<Annotation> classAnnotations = new ArrayList<>();
+    private final MangooFilter [] filters;
     private final Messages messages;
     private final Crypto crypto;
     private final Map<String, Class<?>> methodParameters;
+    private final ParameterBinder [] binders;
     private final Class<?> controllerClass;
     private final String controllerClassName;
     private final String controllerMethodName;
     private final boolean hasRequestFilter;
     private TemplateEngine templateEngine;
+    private HttpHandler next;
+    private HttpHandler continuation;
+    private HttpHandler refresh;
+    private ResponseHandler responseHandler;
+    private ResponseCacheHandler responseCacheHandler;
+    private ExecutionManager executionManager;
+    private ExecutorService executor;
+    private Bulkhead bulkhead;
+    private ConcurrencyLimiter limiter;
+    private RouteContext routeContext;
+    private Provider<?> controllerProvider;
+    private final Map<String, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+    private String [] vary = new String[0];
+    private Map<String, String> headers = new HashMap<>();
+    private HttpString requestMethod;
     private String username;
     private String password;    
+    private String pool;
     private int limit;
+    private int cache;
+    private int stale;
+    private int concurrency;
+    private int queue;
+    private long maxEntitySize;
+    private long timeout;
     private final int methodParametersCount;
     private boolean blocking;
     private boolean timer;
+    private boolean stateless;
+    private boolean coalesce;
+    private boolean ioThread;
+    private boolean async;
+    private boolean internalTemplateEngine;
+    private boolean deadline;
 
     public DispatcherHandler(Class<?> controllerClass, String controllerMethod) {
         Objects.requireNonNull(controllerClass, Required.CONTROLLER_CLASS.toString());
@@ -74,19 +183,21 @@ public class DispatcherHandler implements HttpHandler {
         this.controllerClassName = controllerClass.getSimpleName();
         this.methodParameters = getMethodParameters();
         this.methodParametersCount = this.methodParameters.size();
+        this.binders = ParameterBinders.create(this.methodParameters);
         this.hasRequestFilter = Application.getInjector().getAllBindings().containsKey(com.google.inject.Key.get(MangooRequestFilter.class));
 
         try {
             this.method = Application.getInstance(this.controllerClass)
                     .getClass()
                     .getMethod(this.controllerMethodName, this.methodParameters.values().toArray(new Class[0]));
+            this.invoker = new ControllerInvoker(this.method);
             
             for (Annotation annotation : this.method.getAnnotations()) {
                 if (annotation.annotationType().equals(FilterWith.class)) {
                     this.methodAnnotations.add(annotation);
                 }
             }
-        } catch (NoSuchMethodException | SecurityException e) {
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException e) {
             LOG.error("Failed to create DispatcherHandler", e);
         }
         
@@ -95,6 +206,9 @@ public class DispatcherHandler implements HttpHandler {
                 this.classAnnotations.add(annotation);
             }
         }
+
+        this.filters = getFilters();
+        this.async = (this.invoker != null && this.invoker.isAsync()) || Arrays.stream(this.filters).anyMatch(MangooAsyncFilter.class::isInstance);
     }
     
     public DispatcherHandler isBlocking(boolean blocking) {
@@ -104,6 +218,7 @@ public class DispatcherHandler implements HttpHandler {
 
     public DispatcherHandler withInternalTemplateEngine(boolean internalTemplateEngine) {
         this.templateEngine = internalTemplateEngine ? Application.getInternalTemplateEngine() : Application.getInstance(TemplateEngine.class);
+        this.internalTemplateEngine = internalTemplateEngine;
         return this;
     }
     
@@ -127,41 +242,573 @@ public class DispatcherHandler implements HttpHandler {
         return this;
     }
     
-    @Override
-    public void handleRequest(HttpServerExchange exchange) throws Exception {
-        if ( (RequestUtils.isPostOrPut(exchange) || this.blocking) && exchange.isInIoThread()) {
-            exchange.dispatch(this);
-            return;
+    public DispatcherHandler withTimeout(long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+    
+    public DispatcherHandler withMaxEntitySize(long maxEntitySize) {
+        this.maxEntitySize = maxEntitySize;
+        return this;
+    }
+
+    /**
+     * Sets if a POST or PUT request continues on the IO thread once its body has been
+     * received, instead of being dispatched to a worker thread. Only routes whose
+     * controller and filters never block should enable this.
+     *
+     * @param ioThread True to continue on the IO thread, false otherwise
+     * @return The DispatcherHandler instance
+     */
+    public DispatcherHandler withIoThread(boolean ioThread) {
+        this.ioThread = ioThread;
+        return this;
+    }
+
+    public DispatcherHandler withCache(int cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    public DispatcherHandler withStale(int stale) {
+        this.stale = stale;
+        return this;
+    }
+
+    public DispatcherHandler withVary(String [] vary) {
+        this.vary = Objects.requireNonNull(vary, Required.HEADERS.toString());
+        return this;
+    }
+
+    /**
+     * Sets the executor for blocking requests. If no executor type is given,
+     * the default executor of the application is used. If the route asks for virtual
+     * threads and the JVM does not support them, the bounded worker pool is used.
+     *
+     * @param executorType The executor type
+     * @return The DispatcherHandler instance
+     */
+    public DispatcherHandler withExecutor(ExecutorType executorType) {
+        final ExecutorType type = (executorType == null) ? CONFIG.getRoutesExecutor() : executorType;
+        this.executor = null;
+        if (ExecutorType.VIRTUAL == type) {
+            this.executor = ExecutorUtils.getVirtualThreadExecutor();
+            if (this.executor == null) {
+                LOG.warn("Virtual threads are not supported by this JVM. Running " + this.controllerClassName + "." + this.controllerMethodName + " on the worker pool instead");
+            }
         }
+        return this;
+    }
 
-        if (CONFIG.isAdminEnabled()) {
-            exchange.addExchangeCompleteListener(new MetricsListener(System.currentTimeMillis()));
+    /**
+     * Sets the named executor pool the route is executed on. Routes with a pool
+     * are always dispatched to the pool.
+     *
+     * @param pool The name of the pool
+     * @return The DispatcherHandler instance
+     */
+    public DispatcherHandler withPool(String pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    public DispatcherHandler withConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public DispatcherHandler withQueue(int queue) {
+        this.queue = queue;
+        return this;
+    }
+
+    public DispatcherHandler withCoalesce(boolean coalesce) {
+        this.coalesce = coalesce;
+        return this;
+    }
+
+    /**
+     * Sets the controller method which returns the version or the last modification date of
+     * the resource of the route. The method is resolved once and invoked before the controller
+     * method, so that conditional requests can be answered without calling the controller.
+     *
+     * @param validator The name of the validator method in the controller class, may be null
+     * @return The DispatcherHandler instance
+     */
+    public DispatcherHandler withValidator(String validator) {
+        if (StringUtils.isBlank(validator)) {
+            return this;
+        }
+
+        for (final Method declaredMethod : this.controllerClass.getMethods()) {
+            if (declaredMethod.getName().equals(validator)) {
+                final Map<String, Class<?>> parameters = new LinkedHashMap<>(); //NOSONAR
+                Arrays.asList(declaredMethod.getParameters()).forEach(parameter -> parameters.put(parameter.getName(), parameter.getType())); //NOSONAR
+                try {
+                    this.validator = new ControllerInvoker(declaredMethod);
+                    this.validatorParameters = parameters;
+                    this.validatorBinders = ParameterBinders.create(parameters);
+                } catch (IllegalAccessException e) {
+                    LOG.error("Failed to create validator for " + this.controllerClassName + "." + validator, e);
+                }
+                break;
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Sets the response headers configured for the route, which override or - without
+     * a value - remove the default headers of the application
+     *
+     * @param headers The headers of the route
+     * @return The DispatcherHandler instance
+     */
+    public DispatcherHandler withHeaders(Map<String, String> headers) {
+        this.headers = Objects.requireNonNull(headers, Required.HEADERS.toString());
+        return this;
+    }
+
+    public DispatcherHandler withStateless(boolean stateless) {
+        this.stateless = stateless;
+        return this;
+    }
+
+    public DispatcherHandler withRequestMethod(HttpString requestMethod) {
+        this.requestMethod = requestMethod;
+        return this;
+    }
+
+    /**
+     * Assembles the handler chain of the route, omitting all handlers
+     * which do not apply to the configured route
+     *
+     * @return The DispatcherHandler instance
+     */
+    public DispatcherHandler build() {
+        final boolean statelessRoute = isStateless();
+        if ((this.cache > 0 || this.coalesce) && (!Methods.GET.equals(this.requestMethod) || StringUtils.isNotBlank(this.username))) {
+            LOG.warn("Response cache and coalescing are only supported for GET routes without basic authentication. Ignoring both for " + this.controllerClassName + "." + this.controllerMethodName);
+            this.cache = 0;
+            this.coalesce = false;
+        }
+        if ((this.cache > 0 || this.coalesce) && Arrays.stream(this.filters).anyMatch(MangooAsyncFilter.class::isInstance)) {
+            LOG.warn("Response cache and coalescing are not supported for routes with asynchronous filters. Ignoring both for " + this.controllerClassName + "." + this.controllerMethodName);
+            this.cache = 0;
+            this.coalesce = false;
+        }
+
+        this.responseHandler = Application.getInstance(ResponseHandler.class).withHeaderBlock(new HeaderBlock(CONFIG, getResponseHeaders()));
+        HttpHandler httpHandler = this.responseHandler;
+        if (!statelessRoute) {
+            httpHandler = Application.getInstance(OutboundCookiesHandler.class).withNext(httpHandler);
+        }
+        if (this.cache > 0) {
+            this.responseCacheHandler = Application.getInstance(ResponseCacheHandler.class).withVary(this.vary).withTtl((long) this.cache + this.stale);
+            httpHandler = this.responseCacheHandler.withNext(httpHandler);
+            if (this.stale > 0) {
+                this.refresh = getRefreshChain(statelessRoute);
+                this.executionManager = Application.getInstance(ExecutionManager.class);
+            }
+        }
+        httpHandler = Application.getInstance(RequestHandler.class).withNext(httpHandler);
+        if (Methods.POST.equals(this.requestMethod) || Methods.PUT.equals(this.requestMethod)) {
+            httpHandler = Application.getInstance(FormHandler.class).withNext(httpHandler);
+        }
+        if (!statelessRoute) {
+            httpHandler = Application.getInstance(InboundCookiesHandler.class).withNext(httpHandler);
+        }
+        httpHandler = Application.getInstance(LocaleHandler.class).withNext(httpHandler);
+        if (StringUtils.isNotBlank(this.username) && StringUtils.isNotBlank(this.password)) {
+            httpHandler = RequestUtils.wrapSecurity(httpHandler, this.username, this.password);
+        }
+        if (this.limit > 0) {
+            httpHandler = Application.getInstance(LimitHandler.class).withNext(httpHandler);
+        }
+        this.next = httpHandler;
+        this.continuation = Handlers.exceptionHandler(this.next).addExceptionHandler(Throwable.class, Application.getInstance(ExceptionHandler.class));
+
+        if (StringUtils.isNotBlank(this.pool)) {
+            this.executor = ExecutorUtils.getPool(this.pool, CONFIG.getPoolSize(this.pool));
+            this.blocking = true;
+        }
+
+        final ConcurrencyLimiter concurrencyLimiter = Application.getInstance(ConcurrencyLimiter.class);
+        if (concurrencyLimiter.isEnabled() && !this.internalTemplateEngine) {
+            this.limiter = concurrencyLimiter;
+        }
+
+        if (this.concurrency > 0) {
+            this.bulkhead = new Bulkhead(this.concurrency, Math.max(this.queue, 0));
+            Application.getInstance(Metrics.class).addBulkhead(this.controllerClassName + "." + this.controllerMethodName, this.bulkhead);
+        }
+
+        this.deadline = this.async || this.timeout > 0;
+        if (this.timeout <= 0) {
+            this.timeout = CONFIG.getTimeout();
+        }
+
+        if (this.maxEntitySize <= 0) {
+            this.maxEntitySize = CONFIG.getUndertowMaxEntitySize();
         }
 
-        final Attachment attachment = Attachment.build()
-            .withControllerInstance(Application.getInstance(this.controllerClass))
+        this.controllerProvider = Application.getInjector().getProvider(this.controllerClass);
+        this.routeContext = RouteContext.build()
             .withControllerClass(this.controllerClass)
             .withControllerClassName(this.controllerClassName)
             .withControllerMethodName(this.controllerMethodName)
             .withClassAnnotations(this.classAnnotations)
             .withMethodAnnotations(this.methodAnnotations)
             .withMethodParameters(this.methodParameters)
+            .withBinders(this.binders)
             .withMethod(this.method)
+            .withInvoker(this.invoker)
+            .withValidator(this.validator)
+            .withExecutor(this.executor)
+            .withValidatorBinders(this.validatorBinders)
             .withMethodParameterCount(this.methodParametersCount)
             .withRequestFilter(this.hasRequestFilter)
-            .withRequestParameter(RequestUtils.getRequestParameters(exchange))
+            .withFilters(this.filters)
             .withMessages(this.messages)
             .withTimer(this.timer)
             .withLimit(this.limit)
+            .withAsync(this.async)
             .withUsername(this.username)
             .withPassword(this.password)
             .withTemplateEngine(this.templateEngine)
             .withCrypto(this.crypto);
 
-        exchange.putAttachment(RequestUtils.ATTACHMENT_KEY, attachment);
+        return this;
+    }
+
+    /**
+     * Returns the response headers of the route. Cached and coalescing routes add the
+     * request headers their responses vary on to the Vary header, so that rendered,
+     * stored and cached responses tell caches which request headers select the response.
+     *
+     * @return The response headers of the route
+     */
+    private Map<String, String> getResponseHeaders() {
+        if (this.vary.length == 0 || (this.cache == 0 && !this.coalesce)) {
+            return this.headers;
+        }
+
+        final Map<String, String> responseHeaders = new HashMap<>(this.headers);
+        String value = String.join(", ", this.vary);
+        final String name = responseHeaders.keySet().stream()
+                .filter(key -> Headers.VARY_STRING.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElse(Headers.VARY_STRING);
+        if (StringUtils.isNotBlank(responseHeaders.get(name))) {
+            value = responseHeaders.get(name) + ", " + value;
+        }
+        responseHeaders.put(name, value);
+
+        return responseHeaders;
+    }
+
+    /**
+     * Creates the handler chain which renders a stale cached response in the background
+     * and stores the result in the response cache without sending it to a client
+     *
+     * @param statelessRoute True if the route is stateless
+     * @return The first handler of the refresh chain
+     */
+    private HttpHandler getRefreshChain(boolean statelessRoute) {
+        final ResponseCacheHandler storeHandler = Application.getInstance(ResponseCacheHandler.class).withVary(this.vary).withTtl((long) this.cache + this.stale);
+        HttpHandler httpHandler = Application.getInstance(RequestHandler.class).withSuspend(false).withNext(storeHandler);
+        if (!statelessRoute) {
+            httpHandler = Application.getInstance(InboundCookiesHandler.class).withNext(httpHandler);
+        }
+
+        return Application.getInstance(LocaleHandler.class).withNext(httpHandler);
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if ((this.cache > 0 || this.coalesce) && exchange.isInIoThread() && RequestUtils.isAnonymous(exchange)) {
+            final CachedResponse cachedResponse = (this.cache > 0) ? getCachedResponse(exchange) : null;
+            if (cachedResponse != null) {
+                if (isPermitted(exchange)) {
+                    sendCachedResponse(exchange, cachedResponse);
+                } else {
+                    dispatchRequest(exchange);
+                }
+                return;
+            }
+
+            if (this.coalesce && coalesceRequest(exchange)) {
+                return;
+            }
+        }
+
+        dispatchRequest(exchange);
+    }
+
+    /**
+     * Passes the request to the request chain. If the adaptive concurrency limiter is
+     * enabled, excess requests are rejected before any other processing happens.
+     *
+     * @param exchange The HttpServerExchange
+     * @throws Exception Thrown when an exception occurs
+     */
+    private void dispatchRequest(HttpServerExchange exchange) throws Exception {
+        if (this.limiter != null && exchange.isInIoThread()) {
+            this.limiter.handleRequest(exchange, this::acquireRequest);
+        } else {
+            acquireRequest(exchange);
+        }
+    }
+
+    /**
+     * Passes the request to the request chain. If the route has a concurrency limit,
+     * the request is passed through the bulkhead of the route first.
+     *
+     * @param exchange The HttpServerExchange
+     * @throws Exception Thrown when an exception occurs
+     */
+    private void acquireRequest(HttpServerExchange exchange) throws Exception {
+        if (this.bulkhead != null && exchange.isInIoThread()) {
+            this.bulkhead.handleRequest(exchange, this::processRequest);
+        } else {
+            processRequest(exchange);
+        }
+    }
+
+    /**
+     * Passes the request to the request chain, reading the request body or dispatching
+     * to a worker thread if required
+     *
+     * @param exchange The HttpServerExchange
+     * @throws Exception Thrown when an exception occurs
+     */
+    private void processRequest(HttpServerExchange exchange) throws Exception {
+        if (exchange.isInIoThread()) {
+            if (RequestUtils.isPostOrPut(exchange)) {
+                handleBody(exchange);
+                return;
+            } else if (this.blocking) {
+                dispatchBlocking(exchange, this);
+                return;
+            }
+        }
+
+        createAttachment(exchange);
         nextHandler(exchange);
     }
 
+    /**
+     * Returns the cached response of the request if it is fresh or if it is stale and
+     * may be served while being refreshed in the background
+     *
+     * @param exchange The HttpServerExchange
+     * @return The cached response or null if no cached response can be served
+     */
+    private CachedResponse getCachedResponse(HttpServerExchange exchange) {
+        final CachedResponse cachedResponse = this.responseCacheHandler.getCache().get(RequestUtils.getResponseKey(exchange, this.vary));
+        if (cachedResponse == null || cachedResponse.isFresh(this.cache)) {
+            return cachedResponse;
+        }
+
+        return (this.refresh != null && cachedResponse.isStale(this.cache, this.stale)) ? cachedResponse : null;
+    }
+
+    /**
+     * Sends a cached response. A stale response is refreshed in the background by the
+     * ExecutionManager, unless a refresh is already running.
+     *
+     * @param exchange The HttpServerExchange
+     * @param cachedResponse The cached response to send
+     */
+    private void sendCachedResponse(HttpServerExchange exchange, CachedResponse cachedResponse) {
+        if (!cachedResponse.isFresh(this.cache) && cachedResponse.startRefresh()) {
+            refreshCachedResponse(RequestUtils.detach(exchange), cachedResponse);
+        }
+
+        if (CONFIG.isAdminEnabled()) {
+            exchange.addExchangeCompleteListener(new MetricsListener(System.currentTimeMillis()));
+        }
+        this.responseHandler.handleCachedResponse(exchange, cachedResponse.toResponse());
+    }
+
+    /**
+     * Executes the filters of the route for a request which is about to be answered with a
+     * cached or shared response, so that a filter denying a request still applies once a
+     * response has been cached. As only anonymous requests are served from the cache, the
+     * filters receive a request without session and authentication. The filters are executed
+     * on the IO thread.
+     *
+     * @param exchange The HttpServerExchange
+     * @return True if no filter ended the response, false otherwise
+     */
+    private boolean isPermitted(HttpServerExchange exchange) {
+        if (this.filters.length == 0) {
+            return true;
+        }
+
+        try {
+            final Request request = new Request(exchange).withParameter(RequestUtils.getRequestParameters(exchange));
+            Response response = Response.withOk();
+            for (final MangooFilter filter : this.filters) {
+                response = filter.execute(request, response);
+                if (response.isEndResponse()) {
+                    return false;
+                }
+            }
+        } catch (Exception e) { //NOSONAR
+            //The request chain executes the filters again and handles the exception
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Dispatches the exchange to a thread which is allowed to block, either a virtual
+     * thread or a thread of the XNIO worker pool
+     *
+     * @param exchange The HttpServerExchange
+     * @param httpHandler The handler to execute
+     */
+    private void dispatchBlocking(HttpServerExchange exchange, HttpHandler httpHandler) {
+        if (this.executor == null) {
+            exchange.dispatch(httpHandler);
+        } else {
+            exchange.dispatch(this.executor, httpHandler);
+        }
+    }
+
+    /**
+     * Executes the request chain only for the first of identical concurrent requests. All
+     * following identical requests are suspended until the first request is completed, but
+     * not longer than the timeout of the route. A request whose timeout expires stops waiting
+     * and falls back to its own execution.
+     *
+     * @param exchange The HttpServerExchange
+     * @return True if the request waits for an identical request, false if it has to be executed
+     */
+    private boolean coalesceRequest(HttpServerExchange exchange) {
+        final Metrics metrics = Application.getInstance(Metrics.class);
+        final String key = RequestUtils.getResponseKey(exchange, this.vary);
+        final InFlightRequest inFlightRequest = new InFlightRequest();
+
+        final InFlightRequest running = this.inFlightRequests.putIfAbsent(key, inFlightRequest);
+        if (running == null) {
+            exchange.addExchangeCompleteListener(new CoalescingListener(this.inFlightRequests, key, inFlightRequest));
+            return false;
+        }
+
+        if (!isPermitted(exchange)) {
+            return false;
+        }
+
+        exchange.dispatch(SameThreadExecutor.INSTANCE, () -> {
+            final AtomicReference<XnioExecutor.Key> timeoutKey = new AtomicReference<>();
+            final AtomicBoolean waiting = new AtomicBoolean(true);
+            final Consumer<CachedResponse> subscriber = cachedResponse -> exchange.getIoThread().execute(() -> {
+                if (!waiting.compareAndSet(true, false)) {
+                    return;
+                }
+                timeoutKey.get().remove();
+
+                if (cachedResponse == null) {
+                    metrics.incCoalescedFallback();
+                    Connectors.executeRootHandler(this::dispatchRequest, exchange);
+                } else {
+                    metrics.incCoalescedRequest();
+                    if (CONFIG.isAdminEnabled()) {
+                        exchange.addExchangeCompleteListener(new MetricsListener(System.currentTimeMillis()));
+                    }
+                    Connectors.executeRootHandler(coalescedExchange -> this.responseHandler.handleCachedResponse(coalescedExchange, cachedResponse.toResponse()), exchange);
+                }
+            });
+
+            timeoutKey.set(exchange.getIoThread().executeAfter(() -> {
+                if (waiting.compareAndSet(true, false)) {
+                    running.unsubscribe(subscriber);
+                    metrics.incCoalescedFallback();
+                    Connectors.executeRootHandler(this::dispatchRequest, exchange);
+                }
+            }, this.timeout, TimeUnit.MILLISECONDS));
+
+            running.subscribe(subscriber);
+        });
+
+        return true;
+    }
+
+    /**
+     * Renders the response of a detached request in the background and stores it in the response cache
+     *
+     * @param detached The detached HttpServerExchange
+     * @param cachedResponse The stale cached response
+     */
+    private void refreshCachedResponse(HttpServerExchange detached, CachedResponse cachedResponse) {
+        this.executionManager.execute(() -> {
+            try {
+                createAttachment(detached);
+                this.refresh.handleRequest(detached);
+            } catch (Exception e) { //NOSONAR
+                LOG.error("Failed to refresh cached response of " + this.controllerClassName + "." + this.controllerMethodName, e);
+            } finally {
+                cachedResponse.endRefresh();
+            }
+        });
+    }
+
+    /**
+     * Reads the request body without blocking the IO thread and continues the handler
+     * chain on a worker thread once the complete body has been received, or on the IO
+     * thread if the route opted in. Form requests are dispatched to a worker thread
+     * right away, as the form parser reads the request blocking.
+     *
+     * @param exchange The HttpServerExchange
+     */
+    private void handleBody(HttpServerExchange exchange) {
+        if (exchange.getRequestContentLength() > this.maxEntitySize) {
+            exchange.setStatusCode(StatusCodes.REQUEST_ENTITY_TOO_LARGE);
+            exchange.endExchange();
+            return;
+        }
+
+        exchange.setMaxEntitySize(this.maxEntitySize);
+        if (RequestUtils.isFormRequest(exchange)) {
+            dispatchBlocking(exchange, this);
+        } else {
+            final Attachment attachment = createAttachment(exchange);
+            exchange.getRequestReceiver().receiveFullBytes((receivedExchange, body) -> {
+                attachment.setRawBody(body);
+                if (this.ioThread && !this.blocking) {
+                    receivedExchange.dispatch(SameThreadExecutor.INSTANCE, this.continuation);
+                } else {
+                    dispatchBlocking(receivedExchange, this.continuation);
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates the attachment of the current request and adds it to the HttpServerExchange
+     *
+     * @param exchange The HttpServerExchange
+     * @return The created attachment
+     */
+    private Attachment createAttachment(HttpServerExchange exchange) {
+        if (CONFIG.isAdminEnabled()) {
+            exchange.addExchangeCompleteListener(new MetricsListener(System.currentTimeMillis()));
+        }
+
+        final Attachment attachment = Attachment.of(this.routeContext)
+            .withControllerInstance(this.controllerProvider.get())
+            .withRequestParameter(RequestUtils.getRequestParameters(exchange))
+            .withDeadline(this.deadline ? new Deadline(this.timeout) : null);
+
+        exchange.putAttachment(RequestUtils.ATTACHMENT_KEY, attachment);
+
+        return attachment;
+    }
+
     /**
      * Converts the method parameter of a mapped controller method to a map
      *
@@ -179,14 +826,66 @@ public class DispatcherHandler implements HttpHandler {
         return parameters;
     }
 
+    /**
+     * Checks if the route does not require session, flash and authentication cookie processing.
+     * This is the case if the route is marked as stateless or - when auto detection is enabled -
+     * the route has no filters and neither the controller method nor its validator take Session, Flash, Authentication or Form
+     *
+     * @return True if the route is stateless, false otherwise
+     */
+    private boolean isStateless() {
+        if (this.stateless) {
+            return true;
+        }
+
+        if (CONFIG.isStatelessAutodetect() && this.filters.length == 0) {
+            return Stream.concat(this.methodParameters.values().stream(), this.validatorParameters.values().stream()).noneMatch(clazz ->
+                    Session.class.equals(clazz) ||
+                    Flash.class.equals(clazz) ||
+                    Authentication.class.equals(clazz) ||
+                    Form.class.equals(clazz));
+        }
+
+        return false;
+    }
+
+    /**
+     * Resolves all filters of the mapped controller method once, in the order they are executed:
+     * RequestFilter, ControllerFilter, MethodFilter
+     *
+     * @return An ordered array of filter instances
+     */
+    private MangooFilter[] getFilters() {
+        final List<MangooFilter> mangooFilters = new ArrayList<>();
+        if (this.hasRequestFilter) {
+            final MangooRequestFilter requestFilter = Application.getInstance(MangooRequestFilter.class);
+            mangooFilters.add((requestFilter instanceof MangooFilter) ? (MangooFilter) requestFilter : requestFilter::execute);
+        }
+
+        for (final Annotation annotation : this.classAnnotations) {
+            addFilters((FilterWith) annotation, mangooFilters);
+        }
+
+        for (final Annotation annotation : this.methodAnnotations) {
+            addFilters((FilterWith) annotation, mangooFilters);
+        }
+
+        return mangooFilters.toArray(new MangooFilter[0]);
+    }
+
+    private static void addFilters(FilterWith filterWith, List<MangooFilter> mangooFilters) {
+        for (final Class<? extends MangooFilter> clazz : filterWith.value()) {
+            mangooFilters.add(Application.getInstance(clazz));
+        }
+    }
+
     /**
      * Handles the next request in the handler chain
      *
      * @param exchange The HttpServerExchange
      * @throws Exception Thrown when an exception occurs
      */
-    @SuppressWarnings("all")
     private void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(LimitHandler.class).handleRequest(exchange);
+        this.next.handleRequest(exchange);
     }
 }
\ No newline at end of file
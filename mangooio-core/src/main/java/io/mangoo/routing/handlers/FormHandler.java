@@ -2,10 +2,12 @@ package io.mangoo.routing.handlers;
 
 import java.io.IOException;
 import java.util.Deque;
+import java.util.Objects;
 
 import com.google.common.base.Charsets;
 
 import io.mangoo.core.Application;
+import io.mangoo.enums.Required;
 import io.mangoo.routing.Attachment;
 import io.mangoo.routing.bindings.Form;
 import io.mangoo.utils.RequestUtils;
@@ -24,12 +26,24 @@ import io.undertow.util.HttpString;
  *
  */
 public class FormHandler implements HttpHandler {
+    private HttpHandler next;
+
+    /**
+     * Sets the next handler in the handler chain
+     *
+     * @param next The next HttpHandler
+     * @return The FormHandler instance
+     */
+    public FormHandler withNext(HttpHandler next) {
+        this.next = Objects.requireNonNull(next, Required.HTTP_HANDLER.toString());
+        return this;
+    }
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
         final Attachment attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
-        if (attachment.getForm() == null) {
-            attachment.setForm(getForm(exchange));   
+        if (!attachment.hasForm()) {
+            attachment.setForm(getForm(exchange));
         }
 
         exchange.putAttachment(RequestUtils.ATTACHMENT_KEY, attachment);
@@ -82,8 +96,7 @@ public class FormHandler implements HttpHandler {
      * @param exchange The HttpServerExchange
      * @throws Exception Thrown when an exception occurs
      */
-    @SuppressWarnings("all")
     protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(RequestHandler.class).handleRequest(exchange);
+        this.next.handleRequest(exchange);
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package io.mangoo.routing.handlers;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -15,11 +16,11 @@ import io.jsonwebtoken.Jwts;
 import io.mangoo.configuration.Config;
 import io.mangoo.core.Application;
 import io.mangoo.enums.ClaimKey;
+import io.mangoo.enums.Required;
 import io.mangoo.models.Subject;
 import io.mangoo.routing.Attachment;
 import io.mangoo.routing.bindings.Authentication;
 import io.mangoo.routing.bindings.Flash;
-import io.mangoo.routing.bindings.Form;
 import io.mangoo.routing.bindings.Session;
 import io.mangoo.utils.CodecUtils;
 import io.mangoo.utils.RequestUtils;
@@ -37,17 +38,25 @@ public class InboundCookiesHandler implements HttpHandler {
     private static final Logger LOG = LogManager.getLogger(InboundCookiesHandler.class);
     private static final Config CONFIG = Application.getConfig();
     private static final int TOKEN_LENGTH = 16;
-    private Subject subject;
-    private Form form = null;
-    
+    private HttpHandler next;
+
+    /**
+     * Sets the next handler in the handler chain
+     *
+     * @param next The next HttpHandler
+     * @return The InboundCookiesHandler instance
+     */
+    public InboundCookiesHandler withNext(HttpHandler next) {
+        this.next = Objects.requireNonNull(next, Required.HTTP_HANDLER.toString());
+        return this;
+    }
+
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
         Attachment attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
         attachment.setSession(getSessionCookie(exchange));
-        attachment.setAuthentication(getAuthenticationCookie(exchange));
-        attachment.setSubject(this.subject);
-        attachment.setFlash(getFlashCookie(exchange));
-        attachment.setForm(this.form);
+        attachment.setAuthentication(getAuthenticationCookie(exchange, attachment));
+        attachment.setFlash(getFlashCookie(exchange, attachment));
 
         exchange.putAttachment(RequestUtils.ATTACHMENT_KEY, attachment);
         nextHandler(exchange);
@@ -83,10 +92,12 @@ public class InboundCookiesHandler implements HttpHandler {
 
     /**
      * Retrieves the current authentication from the HttpServerExchange
+     * and sets the matching subject to the attachment
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
-    protected Authentication getAuthenticationCookie(HttpServerExchange exchange) {
+    protected Authentication getAuthenticationCookie(HttpServerExchange exchange, Attachment attachment) {
         Authentication authentication;
 
         final CookieParser cookieParser = CookieParser.build()
@@ -99,25 +110,27 @@ public class InboundCookiesHandler implements HttpHandler {
                     .withExpires(cookieParser.getExpiresDate())
                     .withAuthenticatedUser(cookieParser.getAuthenticatedUser());
             
-            this.subject = new Subject(cookieParser.getAuthenticatedUser(), true);
+            attachment.setSubject(new Subject(cookieParser.getAuthenticatedUser(), true));
         } else {
             authentication = Application.getInstance(Authentication.class)
                     .withExpires(LocalDateTime.now().plusSeconds(CONFIG.getAuthenticationExpires()))
                     .withAuthenticatedUser(null);
             
-            this.subject = new Subject("", false);
+            attachment.setSubject(new Subject("", false));
         }
 
         return authentication;
     }
 
     /**
-     * Retrieves the flash cookie from the current
+     * Retrieves the flash cookie from the current request and
+     * sets a flashed form to the attachment
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
     @SuppressWarnings("unchecked")
-    protected Flash getFlashCookie(HttpServerExchange exchange) {
+    protected Flash getFlashCookie(HttpServerExchange exchange, Attachment attachment) {
         Flash flash = null;
         final String cookieValue = CookieUtils.getCookieValue(exchange, CONFIG.getFlashCookieName());
         
@@ -131,7 +144,7 @@ public class InboundCookiesHandler implements HttpHandler {
                 final Map<String, String> values = claims.get(ClaimKey.DATA.toString(), Map.class);
 
                 if (claims.containsKey(ClaimKey.FORM.toString())) {
-                    this.form = CodecUtils.deserializeFromBase64(claims.get(ClaimKey.FORM.toString(), String.class));
+                    attachment.setForm(CodecUtils.deserializeFromBase64(claims.get(ClaimKey.FORM.toString(), String.class)));
                 } 
                 
                 flash = new Flash(values);
@@ -150,8 +163,7 @@ public class InboundCookiesHandler implements HttpHandler {
      * @param exchange The HttpServerExchange
      * @throws Exception Thrown when an exception occurs
      */
-    @SuppressWarnings("all")
     protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(FormHandler.class).handleRequest(exchange);
+        this.next.handleRequest(exchange);
     }
-}
\ No newline at end of file
+}
@@ -5,7 +5,6 @@ import java.util.Objects;
 import com.google.inject.Inject;
 
 import io.mangoo.cache.Cache;
-import io.mangoo.core.Application;
 import io.mangoo.enums.CacheName;
 import io.mangoo.enums.Required;
 import io.mangoo.providers.CacheProvider;
@@ -23,22 +22,33 @@ import io.undertow.util.StatusCodes;
  *
  */
 public class LimitHandler implements HttpHandler {
-    private Attachment attachment;
-    private Cache cache;
+    private final Cache cache;
+    private HttpHandler next;
     
     @Inject
     public LimitHandler(CacheProvider cacheProvider) {
         Objects.requireNonNull(cacheProvider, Required.CACHE_PROVIDER.toString());
         this.cache = cacheProvider.getCache(CacheName.REQUEST);
     }
+
+    /**
+     * Sets the next handler in the handler chain
+     *
+     * @param next The next HttpHandler
+     * @return The LimitHandler instance
+     */
+    public LimitHandler withNext(HttpHandler next) {
+        this.next = Objects.requireNonNull(next, Required.HTTP_HANDLER.toString());
+        return this;
+    }
     
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
-        this.attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
+        final Attachment attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
         
-        if (this.attachment.hasLimit()) {
+        if (attachment.hasLimit()) {
             String key = getCacheKey(exchange);
-            if (this.cache.increment(key).get() > this.attachment.getLimit()) {
+            if (this.cache.increment(key).get() > attachment.getLimit()) {
                 endRequest(exchange); 
             } else {
                 nextHandler(exchange);
@@ -82,14 +92,7 @@ public class LimitHandler implements HttpHandler {
      * @param exchange The HttpServerExchange
      * @throws Exception Thrown when an exception occurs
      */
-    @SuppressWarnings("all")
     protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        if (this.attachment.hasAuthentication()) {
-            HttpHandler httpHandler = RequestUtils.wrapSecurity(
-                    Application.getInstance(LocaleHandler.class), this.attachment.getUsername(), this.attachment.getPassword());
-            httpHandler.handleRequest(exchange);
-        } else {
-            Application.getInstance(LocaleHandler.class).handleRequest(exchange);    
-        }
+        this.next.handleRequest(exchange);
     }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package io.mangoo.routing.handlers;
 
 import java.util.Locale;
+import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
 
 import io.mangoo.configuration.Config;
 import io.mangoo.core.Application;
+import io.mangoo.enums.Required;
 import io.mangoo.routing.Attachment;
 import io.mangoo.utils.RequestUtils;
 import io.undertow.server.HttpHandler;
@@ -23,6 +25,18 @@ import io.undertow.util.LocaleUtils;
  */
 public class LocaleHandler implements HttpHandler {
     private static final Config CONFIG = Application.getConfig();
+    private HttpHandler next;
+
+    /**
+     * Sets the next handler in the handler chain
+     *
+     * @param next The next HttpHandler
+     * @return The LocaleHandler instance
+     */
+    public LocaleHandler withNext(HttpHandler next) {
+        this.next = Objects.requireNonNull(next, Required.HTTP_HANDLER.toString());
+        return this;
+    }
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
@@ -55,8 +69,7 @@ public class LocaleHandler implements HttpHandler {
      * @param exchange The HttpServerExchange
      * @throws Exception Thrown when an exception occurs
      */
-    @SuppressWarnings("all")
     protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(InboundCookiesHandler.class).handleRequest(exchange);
+        this.next.handleRequest(exchange);
     }
-}
\ No newline at end of file
+}
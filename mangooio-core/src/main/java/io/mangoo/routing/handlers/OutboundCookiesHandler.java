@@ -3,12 +3,14 @@ package io.mangoo.routing.handlers;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.mangoo.configuration.Config;
 import io.mangoo.core.Application;
 import io.mangoo.enums.ClaimKey;
+import io.mangoo.enums.Required;
 import io.mangoo.routing.Attachment;
 import io.mangoo.routing.bindings.Authentication;
 import io.mangoo.routing.bindings.Flash;
@@ -29,15 +31,26 @@ import io.undertow.server.handlers.Cookie;
  */
 public class OutboundCookiesHandler implements HttpHandler {
     private static final Config CONFIG = Application.getConfig();
-    private Attachment attachment;
+    private HttpHandler next;
+
+    /**
+     * Sets the next handler in the handler chain
+     *
+     * @param next The next HttpHandler
+     * @return The OutboundCookiesHandler instance
+     */
+    public OutboundCookiesHandler withNext(HttpHandler next) {
+        this.next = Objects.requireNonNull(next, Required.HTTP_HANDLER.toString());
+        return this;
+    }
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
-        this.attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
+        final Attachment attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
 
-        setSessionCookie(exchange);
-        setFlashCookie(exchange);
-        setAuthenticationCookie(exchange);
+        setSessionCookie(exchange, attachment);
+        setFlashCookie(exchange, attachment);
+        setAuthenticationCookie(exchange, attachment);
 
         nextHandler(exchange);
     }
@@ -46,9 +59,10 @@ public class OutboundCookiesHandler implements HttpHandler {
      * Sets the session cookie to the current HttpServerExchange
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
-    protected void setSessionCookie(HttpServerExchange exchange) {
-        Session session = this.attachment.getSession();
+    protected void setSessionCookie(HttpServerExchange exchange, Attachment attachment) {
+        Session session = attachment.getSession();
         
         if (session != null && session.hasChanges()) {
             Map<String, Object> claims = new HashMap<>();
@@ -64,7 +78,7 @@ public class OutboundCookiesHandler implements HttpHandler {
                     .compact();
 
             if (CONFIG.isSessionCookieEncrypt()) {
-                jwt = this.attachment.getCrypto().encrypt(jwt);
+                jwt = attachment.getCrypto().encrypt(jwt);
             }
 
             final Cookie cookie = CookieBuilder.create()
@@ -83,9 +97,10 @@ public class OutboundCookiesHandler implements HttpHandler {
      * Sets the authentication cookie to the current HttpServerExchange
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
-    protected void setAuthenticationCookie(HttpServerExchange exchange) {
-        Authentication authentication = this.attachment.getAuthentication();
+    protected void setAuthenticationCookie(HttpServerExchange exchange, Attachment attachment) {
+        Authentication authentication = attachment.getAuthentication();
         
         if (authentication != null && authentication.hasAuthenticatedUser()) {
             Cookie cookie;
@@ -110,7 +125,7 @@ public class OutboundCookiesHandler implements HttpHandler {
                         .compact();
                 
                 if (CONFIG.isAuthenticationCookieEncrypt()) {
-                    jwt = this.attachment.getCrypto().encrypt(jwt);
+                    jwt = attachment.getCrypto().encrypt(jwt);
                 }
 
                 cookie = CookieBuilder.create()
@@ -130,16 +145,17 @@ public class OutboundCookiesHandler implements HttpHandler {
      * Sets the flash cookie to current HttpServerExchange
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
-    protected void setFlashCookie(HttpServerExchange exchange) {
-        Flash flash = this.attachment.getFlash();
-        Form form = this.attachment.getForm();
+    protected void setFlashCookie(HttpServerExchange exchange, Attachment attachment) {
+        Flash flash = attachment.getFlash();
+        Form form = attachment.hasForm() ? attachment.getForm() : null;
         
-        if (flash != null && !flash.isDiscard() && (flash.hasContent() || form.flashify())) {
+        if (flash != null && !flash.isDiscard() && (flash.hasContent() || (form != null && form.flashify()))) {
             Map<String, Object> claims = new HashMap<>();
             claims.put(ClaimKey.DATA.toString(), flash.getValues());
             
-            if (form.flashify()) {
+            if (form != null && form.flashify()) {
                 claims.put(ClaimKey.FORM.toString(), CodecUtils.serializeToBase64(form));
             }
             
@@ -178,8 +194,7 @@ public class OutboundCookiesHandler implements HttpHandler {
      * @param exchange The HttpServerExchange
      * @throws Exception Thrown when an exception occurs
      */
-    @SuppressWarnings("all")
     protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(ResponseHandler.class).handleRequest(exchange);
+        this.next.handleRequest(exchange);
     }
-}
\ No newline at end of file
+}
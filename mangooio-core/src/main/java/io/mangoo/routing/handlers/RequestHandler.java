@@ -1,73 +1,348 @@
 package io.mangoo.routing.handlers;
 
 import java.io.IOException;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.time.LocalDate;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.xnio.XnioExecutor;
+
+import com.google.inject.Inject;
 
 import freemarker.template.TemplateException;
-import io.mangoo.annotations.FilterWith;
 import io.mangoo.core.Application;
-import io.mangoo.enums.Binding;
 import io.mangoo.enums.Default;
+import io.mangoo.enums.Required;
 import io.mangoo.exceptions.MangooTemplateEngineException;
-import io.mangoo.interfaces.MangooRequestFilter;
+import io.mangoo.interfaces.MangooAsyncFilter;
+import io.mangoo.interfaces.MangooFilter;
+import io.mangoo.models.Metrics;
 import io.mangoo.routing.Attachment;
+import io.mangoo.routing.Deadline;
+import io.mangoo.routing.ParameterBinder;
 import io.mangoo.routing.Response;
 import io.mangoo.routing.bindings.Request;
-import io.mangoo.utils.JsonUtils;
+import io.mangoo.utils.CodecUtils;
 import io.mangoo.utils.RequestUtils;
+import io.undertow.Handlers;
+import io.undertow.server.Connectors;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.AttachmentKey;
+import io.undertow.util.DateUtils;
+import io.undertow.util.Headers;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import io.undertow.util.SameThreadExecutor;
+import io.undertow.util.StatusCodes;
 
 /**
  * Main class that handles all controller requests
  *
+ * If the controller method or one of the filters of a route returns a CompletionStage,
+ * the exchange is suspended and the handler chain is resumed once the stage is completed.
+ * If the request is not completed within the deadline of the route, the request is answered
+ * with 503 Service Unavailable. The thread of a blocking request is interrupted and the stage
+ * of an asynchronous request is cancelled.
+ *
  * @author skubiak
  *
  */
 public class RequestHandler implements HttpHandler {
-    private Attachment attachment;
+    private static final AttachmentKey<Throwable> FAILURE_KEY = AttachmentKey.create(Throwable.class);
+    private final Metrics metrics;
+    private HttpHandler next;
+    private HttpHandler resume;
+    private boolean suspend = true;
+
+    @Inject
+    public RequestHandler(Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, Required.METRICS.toString());
+    }
+
+    /**
+     * Sets the next handler in the handler chain
+     *
+     * @param next The next HttpHandler
+     * @return The RequestHandler instance
+     */
+    public RequestHandler withNext(HttpHandler next) {
+        this.next = Objects.requireNonNull(next, Required.HTTP_HANDLER.toString());
+        this.resume = Handlers.exceptionHandler(this::resumeRequest).addExceptionHandler(Throwable.class, Application.getInstance(ExceptionHandler.class));
+        return this;
+    }
+
+    /**
+     * Sets if the exchange is suspended while waiting for an asynchronous response. If
+     * not, the current thread blocks until the response is completed or the timeout expired.
+     *
+     * @param suspend True to suspend the exchange, false to block the current thread
+     * @return The RequestHandler instance
+     */
+    public RequestHandler withSuspend(boolean suspend) {
+        this.suspend = suspend;
+        return this;
+    }
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
-        this.attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
-        this.attachment.setBody(getRequestBody(exchange));
-        this.attachment.setRequest(getRequest(exchange));
+        final Attachment attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
+        if (attachment.getRawBody() == null) {
+            attachment.setRawBody(getRequestBody(exchange));
+        }
+        attachment.setRequest(getRequest(exchange, attachment));
+
+        if (attachment.isAsync()) {
+            handleAsync(exchange, attachment);
+        } else if (attachment.getDeadline() != null && this.suspend) {
+            handleDeadline(exchange, attachment);
+        } else {
+            completeRequest(exchange, attachment, getResponse(exchange, attachment));
+        }
+    }
+
+    /**
+     * Executes the filters and the controller of a route with a deadline. If the request
+     * is processed by a worker thread, the exchange is suspended while the controller is
+     * executed. Once the deadline expires, the thread is interrupted and the request is
+     * answered immediately, even if the controller ignores the interrupt. Only the first of
+     * the controller and the deadline resumes the exchange, so the response of the controller
+     * is never written while the timeout response is sent. Otherwise the deadline is checked
+     * once the controller returned.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @throws Exception Thrown when an exception occurs
+     */
+    protected void handleDeadline(HttpServerExchange exchange, Attachment attachment) throws Exception {
+        final Deadline deadline = attachment.getDeadline();
+        if (exchange.isInIoThread()) {
+            Response response = getResponse(exchange, attachment);
+            if (deadline.isExceeded() && deadline.expire()) {
+                countTimeout(attachment);
+                response = Response.withStatusCode(StatusCodes.SERVICE_UNAVAILABLE).andEmptyBody();
+            } else if (!deadline.complete()) {
+                return;
+            }
+
+            completeRequest(exchange, attachment, response);
+            return;
+        }
+
+        exchange.dispatch(SameThreadExecutor.INSTANCE, () -> {
+            deadline.interrupt(Thread.currentThread());
+            final XnioExecutor.Key timeoutKey = exchange.getIoThread().executeAfter(() -> {
+                if (deadline.expire()) {
+                    expireRequest(exchange, attachment);
+                }
+            }, deadline.getRemaining(), TimeUnit.MILLISECONDS);
+
+            Response response = null;
+            Exception failure = null;
+            try {
+                response = getResponse(exchange, attachment);
+            } catch (Exception e) {
+                failure = e;
+            }
+
+            if (deadline.isExceeded() && deadline.expire()) {
+                timeoutKey.remove();
+                expireRequest(exchange, attachment);
+            } else if (deadline.complete()) {
+                timeoutKey.remove();
+                if (failure == null) {
+                    attachment.setResponse(response);
+                } else {
+                    exchange.putAttachment(FAILURE_KEY, failure);
+                }
+                Connectors.executeRootHandler(this.resume, exchange);
+            }
+        });
+    }
 
-        final Response response = getResponse(exchange);
+    /**
+     * Passes the response of the controller to the next handler in the handler chain
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @param response The response of the filters or the controller
+     * @throws Exception Thrown when an exception occurs
+     */
+    protected void completeRequest(HttpServerExchange exchange, Attachment attachment, Response response) throws Exception {
         response.getCookies().forEach(exchange::setResponseCookie);
 
-        this.attachment.setResponse(response);
+        attachment.setResponse(response);
 
-        exchange.putAttachment(RequestUtils.ATTACHMENT_KEY, this.attachment);
+        exchange.putAttachment(RequestUtils.ATTACHMENT_KEY, attachment);
         nextHandler(exchange);
     }
 
+    /**
+     * Executes the filters and the controller of an asynchronous route. If the response
+     * is not yet completed, the exchange is suspended until the response is completed or
+     * the timeout of the route expired.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @throws Exception Thrown when an exception occurs
+     */
+    protected void handleAsync(HttpServerExchange exchange, Attachment attachment) throws Exception {
+        final CompletionStage<Response> stage = getResponseAsync(exchange, attachment);
+        final Deadline deadline = attachment.getDeadline();
+        if (!this.suspend || deadline == null || (stage instanceof Future && ((Future<?>) stage).isDone())) {
+            completeRequest(exchange, attachment, await(stage, deadline, attachment));
+            return;
+        }
+
+        final Executor executor = getResumeExecutor(exchange, attachment);
+        exchange.dispatch(SameThreadExecutor.INSTANCE, () -> {
+            final XnioExecutor.Key timeoutKey = exchange.getIoThread().executeAfter(() -> {
+                if (deadline.expire()) {
+                    cancel(stage);
+                    expireRequest(exchange, attachment);
+                }
+            }, deadline.getRemaining(), TimeUnit.MILLISECONDS);
+
+            stage.whenComplete((response, throwable) -> {
+                if (deadline.complete()) {
+                    timeoutKey.remove();
+
+                    if (throwable == null) {
+                        attachment.setResponse(response);
+                    } else {
+                        exchange.putAttachment(FAILURE_KEY, (throwable instanceof CompletionException && throwable.getCause() != null) ? throwable.getCause() : throwable);
+                    }
+                    executor.execute(() -> Connectors.executeRootHandler(this.resume, exchange));
+                }
+            });
+        });
+    }
+
+    /**
+     * Continues the handler chain of a suspended exchange
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @throws Exception Thrown when an exception occurs
+     */
+    private void resumeRequest(HttpServerExchange exchange) throws Exception {
+        final Throwable failure = exchange.removeAttachment(FAILURE_KEY);
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+
+        final Attachment attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
+        completeRequest(exchange, attachment, attachment.getResponse());
+    }
+
+    /**
+     * Returns the executor an asynchronous request is resumed on once its response is completed.
+     * This is the executor configured for the route, so that completions run within the pool or
+     * virtual executor of the route. Routes without a configured executor are resumed on the
+     * XNIO worker pool if they are blocking, or on the IO thread of the request otherwise.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @return The executor to resume the request on
+     */
+    protected Executor getResumeExecutor(HttpServerExchange exchange, Attachment attachment) {
+        if (attachment.getExecutor() != null) {
+            return attachment.getExecutor();
+        }
+
+        return exchange.isInIoThread() ? exchange.getIoThread() : exchange.getConnection().getWorker();
+    }
+
+    /**
+     * Waits for the completion of an asynchronous response
+     *
+     * @param stage The stage of the response
+     * @param deadline The deadline of the request or null if the request has no deadline
+     * @param attachment The attachment of the current request
+     * @return The completed response or a response with status code 503 if the deadline expired
+     *
+     * @throws InterruptedException If the current thread was interrupted
+     * @throws ExecutionException If the response was completed exceptionally
+     */
+    private Response await(CompletionStage<Response> stage, Deadline deadline, Attachment attachment) throws InterruptedException, ExecutionException {
+        if (deadline == null) {
+            return stage.toCompletableFuture().get();
+        }
+
+        try {
+            final Response response = stage.toCompletableFuture().get(deadline.getRemaining(), TimeUnit.MILLISECONDS);
+            if (deadline.complete()) {
+                return response;
+            }
+        } catch (TimeoutException e) { //NOSONAR
+            deadline.expire();
+        }
+
+        cancel(stage);
+        countTimeout(attachment);
+        return Response.withStatusCode(StatusCodes.SERVICE_UNAVAILABLE).andEmptyBody();
+    }
+
+    /**
+     * Resumes a suspended exchange with a timeout response. Must only be called by
+     * the caller which expired the deadline of the request.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     */
+    private void expireRequest(HttpServerExchange exchange, Attachment attachment) {
+        countTimeout(attachment);
+        attachment.setResponse(Response.withStatusCode(StatusCodes.SERVICE_UNAVAILABLE).andEmptyBody());
+        Connectors.executeRootHandler(this.resume, exchange);
+    }
+
+    private void countTimeout(Attachment attachment) {
+        this.metrics.incTimeout(attachment.getControllerClassName() + "." + attachment.getControllerMethodName());
+    }
+
+    private static void cancel(CompletionStage<Response> stage) {
+        if (stage instanceof Future) {
+            ((Future<?>) stage).cancel(true);
+        }
+    }
+
     /**
      * Creates a new request object containing the current request data
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
-    protected Request getRequest(HttpServerExchange exchange) {
-        final String authenticity = Optional.ofNullable(this.attachment.getRequestParameter()
-                .get(Default.AUTHENTICITY.toString()))
-                .orElse(this.attachment.getForm().get(Default.AUTHENTICITY.toString()));
+    protected Request getRequest(HttpServerExchange exchange, Attachment attachment) {
+        String authenticity = attachment.getRequestParameter().get(Default.AUTHENTICITY.toString());
+        if (authenticity == null && attachment.hasForm()) {
+            authenticity = attachment.getForm().get(Default.AUTHENTICITY.toString());
+        }
         
         return new Request(exchange)
-                .withSession(this.attachment.getSession())
+                .withDeadline(attachment.getDeadline())
+                .withSession(attachment.getSession())
                 .withAuthenticity(authenticity)
-                .withAuthentication(this.attachment.getAuthentication())
-                .withParameter(this.attachment.getRequestParameter())
-                .withBody(this.attachment.getBody());
+                .withAuthentication(attachment.getAuthentication())
+                .withParameter(attachment.getRequestParameter())
+                .withRawBody(attachment.getRawBody());
     }
 
     /**
@@ -75,6 +350,7 @@ public class RequestHandler implements HttpHandler {
      * RequestFilter, ControllerFilter, MethodFilter
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      * @return A Response object that will be merged to the final response
      *
      * @throws NoSuchMethodException
@@ -84,31 +360,92 @@ public class RequestHandler implements HttpHandler {
      * @throws IOException
      * @throws MangooTemplateEngineException 
      */
-    protected Response getResponse(HttpServerExchange exchange) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, IOException, TemplateException, MangooTemplateEngineException {
-        //execute global request filter
+    protected Response getResponse(HttpServerExchange exchange, Attachment attachment) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, IOException, TemplateException, MangooTemplateEngineException {
+        final MangooFilter [] filters = attachment.getFilters();
+        if (filters.length == 0) {
+            return invokeController(exchange, null, attachment);
+        }
+
         Response response = Response.withOk();
-        if (this.attachment.hasRequestFilter()) {
-            final MangooRequestFilter mangooRequestFilter = Application.getInstance(MangooRequestFilter.class);
-            response = mangooRequestFilter.execute(this.attachment.getRequest(), response);
+        for (final MangooFilter filter : filters) {
+            response = filter.execute(attachment.getRequest(), response);
+            if (response.isEndResponse()) {
+                return response;
+            }
+        }
+
+        return invokeController(exchange, response, attachment);
+    }
+
+    /**
+     * Execute filters if exists in the following order:
+     * RequestFilter, ControllerFilter, MethodFilter
+     *
+     * Filters and the controller are chained to the completion of the previous filter,
+     * so an asynchronous filter delays the execution of all following filters.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @return The stage of the response that will be merged to the final response
+     */
+    protected CompletionStage<Response> getResponseAsync(HttpServerExchange exchange, Attachment attachment) {
+        final MangooFilter [] filters = attachment.getFilters();
+        if (filters.length == 0) {
+            return invokeControllerAsync(exchange, null, attachment);
         }
 
-        if (response.isEndResponse()) {
-            return response;
+        CompletionStage<Response> stage = CompletableFuture.completedFuture(Response.withOk());
+        for (final MangooFilter filter : filters) {
+            stage = stage.thenCompose(response -> response.isEndResponse() ? CompletableFuture.completedFuture(response) : executeFilter(filter, attachment.getRequest(), response));
         }
 
-        //execute controller filters
-        response = executeFilter(this.attachment.getClassAnnotations(), response);
-        if (response.isEndResponse()) {
-            return response;
+        return stage.thenCompose(response -> response.isEndResponse() ? CompletableFuture.completedFuture(response) : invokeControllerAsync(exchange, response, attachment));
+    }
+
+    private static CompletionStage<Response> executeFilter(MangooFilter filter, Request request, Response response) {
+        if (filter instanceof MangooAsyncFilter) {
+            return ((MangooAsyncFilter) filter).executeAsync(request, response);
         }
 
-        //execute method filters
-        response = executeFilter(this.attachment.getMethodAnnotations(), response);
-        if (response.isEndResponse()) {
-            return response;
+        return CompletableFuture.completedFuture(filter.execute(request, response));
+    }
+
+    /**
+     * Invokes the controller method of an asynchronous route and merges the response
+     * of the filters into the response of the controller once it is completed
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param response The response from the executed filters or null if the route has no filters
+     * @param attachment The attachment of the current request
+     * @return The stage of the response
+     */
+    protected CompletionStage<Response> invokeControllerAsync(HttpServerExchange exchange, Response response, Attachment attachment) {
+        final CompletionStage<Response> stage;
+        final Map<HttpString, String> validators;
+        try {
+            validators = getValidators(exchange, attachment);
+            if (isNotModified(exchange, validators)) {
+                return CompletableFuture.completedFuture(Response.withStatusCode(StatusCodes.NOT_MODIFIED).andEmptyBody().andHeaders(validators));
+            }
+
+            if (attachment.getMethodParameters().isEmpty()) {
+                stage = attachment.getInvoker().invokeAsync(attachment.getControllerInstance());
+            } else {
+                stage = attachment.getInvoker().invokeAsync(attachment.getControllerInstance(), getConvertedParameters(exchange, attachment));
+            }
+        } catch (InvocationTargetException | IOException e) {
+            final CompletableFuture<Response> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
         }
 
-        return invokeController(exchange, response);
+        return stage.thenApply(invokedResponse -> {
+            try {
+                return mergeResponse(exchange, response, invokedResponse.andHeaders(validators), attachment);
+            } catch (IOException | TemplateException | MangooTemplateEngineException e) {
+                throw new CompletionException(e);
+            }
+        });
     }
 
     /**
@@ -116,6 +453,8 @@ public class RequestHandler implements HttpHandler {
      * is later send to the client
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param response The response from the executed filters or null if the route has no filters
+     * @param attachment The attachment of the current request
      * @return A response object
      *
      * @throws IllegalAccessException
@@ -124,29 +463,116 @@ public class RequestHandler implements HttpHandler {
      * @throws TemplateException
      * @throws MangooTemplateEngineException 
      */
-    protected Response invokeController(HttpServerExchange exchange, Response response) throws IllegalAccessException, InvocationTargetException, IOException, TemplateException, MangooTemplateEngineException {
+    protected Response invokeController(HttpServerExchange exchange, Response response, Attachment attachment) throws IllegalAccessException, InvocationTargetException, IOException, TemplateException, MangooTemplateEngineException {
+        final Map<HttpString, String> validators = getValidators(exchange, attachment);
+        if (isNotModified(exchange, validators)) {
+            return Response.withStatusCode(StatusCodes.NOT_MODIFIED).andEmptyBody().andHeaders(validators);
+        }
+
         Response invokedResponse;
+        if (attachment.getMethodParameters().isEmpty()) {
+            invokedResponse = attachment.getInvoker().invoke(attachment.getControllerInstance());
+        } else {
+            final Object [] convertedParameters = getConvertedParameters(exchange, attachment);
+            invokedResponse = attachment.getInvoker().invoke(attachment.getControllerInstance(), convertedParameters);
+        }
+
+        return mergeResponse(exchange, response, invokedResponse.andHeaders(validators), attachment);
+    }
+
+    /**
+     * Invokes the validator of the route, if any, and creates the validator headers of the response.
+     * If the validator returns a Date, Instant or LocalDateTime a Last-Modified header is created,
+     * for any other value an ETag is created from the checksum of its string representation.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @return The validator headers or an empty map if the route has no validator or the validator returned null
+     *
+     * @throws InvocationTargetException
+     * @throws IOException
+     */
+    protected Map<HttpString, String> getValidators(HttpServerExchange exchange, Attachment attachment) throws InvocationTargetException, IOException {
+        if (!attachment.hasValidator()) {
+            return Collections.emptyMap();
+        }
+
+        final ParameterBinder [] binders = attachment.getValidatorBinders();
+        final Object [] convertedParameters = new Object[binders.length];
+        for (int i = 0; i < binders.length; i++) {
+            convertedParameters[i] = binders[i].bind(attachment, exchange);
+        }
 
-        if (this.attachment.getMethodParameters().isEmpty()) {
-            invokedResponse = (Response) this.attachment.getMethod().invoke(this.attachment.getControllerInstance());
+        final Object version = attachment.getValidator().call(attachment.getControllerInstance(), convertedParameters);
+        if (version == null) {
+            return Collections.emptyMap();
+        }
+
+        final Map<HttpString, String> validators = new HashMap<>(); //NOSONAR
+        if (version instanceof Date) {
+            validators.put(Headers.LAST_MODIFIED, DateUtils.toDateString((Date) version));
+        } else if (version instanceof Instant) {
+            validators.put(Headers.LAST_MODIFIED, DateUtils.toDateString(Date.from((Instant) version)));
+        } else if (version instanceof LocalDateTime) {
+            validators.put(Headers.LAST_MODIFIED, DateUtils.toDateString(Date.from(((LocalDateTime) version).atZone(ZoneId.systemDefault()).toInstant())));
         } else {
-            final Object [] convertedParameters = getConvertedParameters(exchange);
-            invokedResponse = (Response) this.attachment.getMethod().invoke(this.attachment.getControllerInstance(), convertedParameters);
+            validators.put(Headers.ETAG, CodecUtils.hexCRC32(ByteBuffer.wrap(version.toString().getBytes(StandardCharsets.UTF_8))));
+        }
+
+        return validators;
+    }
+
+    /**
+     * Checks if the conditional headers of the request match the given validator headers
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param validators The validator headers of the route
+     * @return True if the client already has the current version of the resource, false otherwise
+     */
+    protected boolean isNotModified(HttpServerExchange exchange, Map<HttpString, String> validators) {
+        if (validators.isEmpty() || !(Methods.GET.equals(exchange.getRequestMethod()) || Methods.HEAD.equals(exchange.getRequestMethod()))) {
+            return false;
         }
 
-        invokedResponse.andContent(response.getContent());
-        invokedResponse.andHeaders(response.getHeaders());
+        final String etag = validators.get(Headers.ETAG);
+        if (etag != null) {
+            return etag.equals(exchange.getRequestHeaders().getFirst(Headers.IF_NONE_MATCH));
+        }
+
+        final String ifModifiedSince = exchange.getRequestHeaders().getFirst(Headers.IF_MODIFIED_SINCE);
+        return ifModifiedSince != null && !DateUtils.handleIfModifiedSince(ifModifiedSince, DateUtils.parseDate(validators.get(Headers.LAST_MODIFIED)));
+    }
+
+    /**
+     * Merges the content and headers of the filters into the response of the controller
+     * and renders the template if the response has no body yet
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param response The response from the executed filters or null if the route has no filters
+     * @param invokedResponse The response of the controller
+     * @param attachment The attachment of the current request
+     * @return The merged response
+     *
+     * @throws IOException
+     * @throws TemplateException
+     * @throws MangooTemplateEngineException
+     */
+    protected Response mergeResponse(HttpServerExchange exchange, Response response, Response invokedResponse, Attachment attachment) throws IOException, TemplateException, MangooTemplateEngineException {
+        if (response != null) {
+            invokedResponse.andContent(response.getContent());
+            invokedResponse.andHeaders(response.getHeaders());
+        }
         if (!invokedResponse.isRendered()) {
-            invokedResponse.andBody(this.attachment.getTemplateEngine().render(
-                    this.attachment.getFlash(),
-                    this.attachment.getSession(),
-                    this.attachment.getForm(),
-                    this.attachment.getMessages(),
-                    this.attachment.getSubject(),
-                    getTemplatePath(invokedResponse),
+            invokedResponse.andBody(attachment.getTemplateEngine().render(
+                    attachment.getFlash(),
+                    attachment.getSession(),
+                    attachment.getForm(),
+                    attachment.getMessages(),
+                    attachment.getSubject(),
+                    getTemplatePath(invokedResponse, attachment),
                     invokedResponse.getContent(),
                     exchange.getRelativePath(),
-                    this.attachment.getLocale()));
+                    attachment.getLocale()));
         }
 
         return invokedResponse;
@@ -157,125 +583,46 @@ public class RequestHandler implements HttpHandler {
      * controller and method name
      *
      * @param response The current response
+     * @param attachment The attachment of the current request
      *
      * @return A case-sensitive template path, e.g. /ApplicationController/index.ftl
      */
-    protected String getTemplatePath(Response response) {
-        return StringUtils.isBlank(response.getTemplate()) ? (this.attachment.getControllerClassName() + "/" + this.attachment.getTemplateEngine().getTemplateName(this.attachment.getControllerMethodName())) : response.getTemplate();
+    protected String getTemplatePath(Response response, Attachment attachment) {
+        return StringUtils.isBlank(response.getTemplate()) ? (attachment.getControllerClassName() + "/" + attachment.getTemplateEngine().getTemplateName(attachment.getControllerMethodName())) : response.getTemplate();
     }
 
     /**
      * Creates an array with the request controller method parameter and sets the appropriate values
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      * @return an array with the request controller method parameter and sets the appropriate values
      *
      * @throws IOException
      */
-    protected Object[] getConvertedParameters(HttpServerExchange exchange) throws IOException {
-        final Object [] convertedParameters = new Object[this.attachment.getMethodParametersCount()];
-
-        int index = 0;
-        for (final Map.Entry<String, Class<?>> entry : this.attachment.getMethodParameters().entrySet()) {
-            final String key = entry.getKey();
-            final Class<?> clazz = entry.getValue();
-            final Binding binding = Optional.ofNullable(Binding.fromString(clazz.getName())).orElse(Binding.UNDEFINED);
-
-            switch (binding) {
-            case FORM:
-                convertedParameters[index] = this.attachment.getForm();
-                break;
-            case AUTHENTICATION:
-                convertedParameters[index] = this.attachment.getAuthentication();
-                break;
-            case SESSION:
-                convertedParameters[index] = this.attachment.getSession();
-                break;
-            case FLASH:
-                convertedParameters[index] = this.attachment.getFlash();
-                break;
-            case REQUEST:
-                convertedParameters[index] = this.attachment.getRequest();
-                break;
-            case LOCALDATE:
-                convertedParameters[index] = StringUtils.isBlank(this.attachment.getRequestParameter().get(key)) ? null : LocalDate.parse(this.attachment.getRequestParameter().get(key));
-                break;
-            case LOCALDATETIME:
-                convertedParameters[index] = StringUtils.isBlank(this.attachment.getRequestParameter().get(key)) ? null : LocalDateTime.parse(this.attachment.getRequestParameter().get(key));
-                break;
-            case STRING:
-                convertedParameters[index] = StringUtils.isBlank(this.attachment.getRequestParameter().get(key)) ? null : this.attachment.getRequestParameter().get(key);
-                break;
-            case INT_PRIMITIVE:
-            case INTEGER:
-                convertedParameters[index] = StringUtils.isBlank(this.attachment.getRequestParameter().get(key)) ? null : Integer.valueOf(this.attachment.getRequestParameter().get(key));
-                break;
-            case DOUBLE_PRIMITIVE:
-            case DOUBLE:
-                convertedParameters[index] = StringUtils.isBlank(this.attachment.getRequestParameter().get(key)) ? null : Double.valueOf(this.attachment.getRequestParameter().get(key));
-                break;
-            case FLOAT_PRIMITIVE:
-            case FLOAT:
-                convertedParameters[index] = StringUtils.isBlank(this.attachment.getRequestParameter().get(key)) ? null : Float.valueOf(this.attachment.getRequestParameter().get(key));
-                break;
-            case LONG_PRIMITIVE:
-            case LONG:
-                convertedParameters[index] = StringUtils.isBlank(this.attachment.getRequestParameter().get(key)) ? null : Long.valueOf(this.attachment.getRequestParameter().get(key));
-                break;
-            case UNDEFINED:
-                convertedParameters[index] = RequestUtils.isJsonRequest(exchange) ? JsonUtils.fromJson(this.attachment.getBody(), clazz) : null;
-                break;
-            default:
-                convertedParameters[index] = null;
-                break;
-            }
-
-            index++;
+    protected Object[] getConvertedParameters(HttpServerExchange exchange, Attachment attachment) throws IOException {
+        final ParameterBinder [] binders = attachment.getBinders();
+        final Object [] convertedParameters = new Object[binders.length];
+        for (int i = 0; i < binders.length; i++) {
+            convertedParameters[i] = binders[i].bind(attachment, exchange);
         }
 
         return convertedParameters;
     }
 
-    /**
-     * Executes all filters on controller and method level
-     *
-     * @param annotations An array of @FilterWith annotated classes and methods
-     * @param response
-     * @return True if the request should continue after filter execution, false otherwise
-     *
-     * @throws NoSuchMethodException
-     * @throws IllegalAccessException
-     * @throws InvocationTargetException
-     */
-    protected Response executeFilter(List<Annotation> annotations, Response response) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        for (final Annotation annotation : annotations) {
-            final FilterWith filterWith = (FilterWith) annotation;
-            for (final Class<?> clazz : filterWith.value()) {
-                if (response.isEndResponse()) {
-                    return response;
-                } else {
-                    final Method classMethod = clazz.getMethod(Default.FILTER_METHOD.toString(), Request.class, Response.class);
-                    response = (Response) classMethod.invoke(Application.getInstance(clazz), this.attachment.getRequest(), response);
-                }
-            }
-        }
-
-        return response;
-    }
-
     /**
      * Retrieves the complete request body from the request
      *
      * @param exchange The Undertow HttpServerExchange
-     * @return A body object containing the request body
+     * @return The raw bytes of the request body
      *
      * @throws IOException
      */
-    protected String getRequestBody(HttpServerExchange exchange) throws IOException {
-        String body = "";
+    protected byte[] getRequestBody(HttpServerExchange exchange) throws IOException {
+        byte[] body = ArrayUtils.EMPTY_BYTE_ARRAY;
         if (RequestUtils.isPostOrPut(exchange)) {
             exchange.startBlocking();
-            body = IOUtils.toString(exchange.getInputStream(), Default.ENCODING.toString());
+            body = IOUtils.toByteArray(exchange.getInputStream());
         }
 
         return body;
@@ -287,8 +634,7 @@ public class RequestHandler implements HttpHandler {
      * @param exchange The HttpServerExchange
      * @throws Exception Thrown when an exception occurs
      */
-    @SuppressWarnings("all")
     protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(OutboundCookiesHandler.class).handleRequest(exchange);
+        this.next.handleRequest(exchange);
     }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package io.mangoo.routing.handlers;
+
+import java.util.Objects;
+
+import com.google.inject.Inject;
+
+import io.mangoo.cache.Cache;
+import io.mangoo.enums.CacheName;
+import io.mangoo.enums.Required;
+import io.mangoo.providers.CacheProvider;
+import io.mangoo.routing.Attachment;
+import io.mangoo.routing.CachedResponse;
+import io.mangoo.utils.RequestUtils;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * Stores the response of a cached route in the response cache. Only responses of
+ * anonymous requests are stored, and never if they set cookies or change the session,
+ * flash or authentication.
+ *
+ * @author svenkubiak
+ *
+ */
+public class ResponseCacheHandler implements HttpHandler {
+    private final Cache cache;
+    private HttpHandler next;
+    private String [] vary = new String[0];
+    private long ttl;
+
+    @Inject
+    public ResponseCacheHandler(CacheProvider cacheProvider) {
+        Objects.requireNonNull(cacheProvider, Required.CACHE_PROVIDER.toString());
+        this.cache = cacheProvider.getCache(CacheName.RESPONSE);
+    }
+
+    /**
+     * Sets the next handler in the handler chain. If no next handler is set,
+     * the response is only stored and not send to the client.
+     *
+     * @param next The next HttpHandler
+     * @return The ResponseCacheHandler instance
+     */
+    public ResponseCacheHandler withNext(HttpHandler next) {
+        this.next = Objects.requireNonNull(next, Required.HTTP_HANDLER.toString());
+        return this;
+    }
+
+    /**
+     * Sets the request headers the cached response varies on
+     *
+     * @param vary The names of the request headers
+     * @return The ResponseCacheHandler instance
+     */
+    public ResponseCacheHandler withVary(String [] vary) {
+        this.vary = Objects.requireNonNull(vary, Required.HEADERS.toString());
+        return this;
+    }
+
+    /**
+     * Sets the number of seconds a stored response is kept in the response cache,
+     * which is the time to live of the route plus the time it may be served stale
+     *
+     * @param ttl The number of seconds
+     * @return The ResponseCacheHandler instance
+     */
+    public ResponseCacheHandler withTtl(long ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        final Attachment attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
+        if (RequestUtils.isAnonymous(exchange) && CachedResponse.isShareable(attachment)) {
+            this.cache.put(RequestUtils.getResponseKey(exchange, this.vary), CachedResponse.of(attachment.getResponse(), this.ttl));
+        }
+
+        if (this.next != null) {
+            this.next.handleRequest(exchange);
+        }
+    }
+
+    /**
+     * @return The response cache
+     */
+    public Cache getCache() {
+        return this.cache;
+    }
+
+    /**
+     * @return The request headers the cached response varies on
+     */
+    public String[] getVary() {
+        return this.vary;
+    }
+}
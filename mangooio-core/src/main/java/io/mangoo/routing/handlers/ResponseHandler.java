@@ -1,15 +1,26 @@
 package io.mangoo.routing.handlers;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.Objects;
 
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.google.inject.Inject;
+
 import io.mangoo.configuration.Config;
 import io.mangoo.core.Application;
 import io.mangoo.enums.Header;
+import io.mangoo.enums.Required;
 import io.mangoo.routing.Attachment;
+import io.mangoo.routing.Compressor;
+import io.mangoo.routing.HeaderBlock;
 import io.mangoo.routing.Response;
+import io.mangoo.utils.CodecUtils;
 import io.mangoo.utils.RequestUtils;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
@@ -23,25 +34,49 @@ import io.undertow.util.StatusCodes;
  */
 public class ResponseHandler implements HttpHandler {
     private static final Config CONFIG = Application.getConfig();
-    private Attachment attachment;
+    private static final ByteBuffer EMPTY_BODY = ByteBuffer.allocate(0).asReadOnlyBuffer();
+    private static final String CRC32 = "crc32";
+    private final Compressor compressor;
+    private final boolean checksumETag;
+    private HeaderBlock headerBlock;
+
+    @Inject
+    public ResponseHandler(Compressor compressor) {
+        this.compressor = Objects.requireNonNull(compressor, Required.COMPRESSOR.toString());
+        this.checksumETag = CRC32.equalsIgnoreCase(CONFIG.getETagAlgorithm());
+        this.headerBlock = new HeaderBlock(CONFIG, Collections.emptyMap());
+    }
+
+    /**
+     * Sets the precomputed default headers of the route
+     *
+     * @param headerBlock The header block of the route
+     * @return The ResponseHandler instance
+     */
+    public ResponseHandler withHeaderBlock(HeaderBlock headerBlock) {
+        this.headerBlock = Objects.requireNonNull(headerBlock, Required.HEADERS.toString());
+        return this;
+    }
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
-        this.attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
-        final Response response = this.attachment.getResponse();
+        final Attachment attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
+        final Response response = attachment.getResponse();
 
         if (response.isRedirect()) {
             handleRedirectResponse(exchange, response);
         } else if (response.isBinary()) {
             handleBinaryResponse(exchange, response);
+        } else if (response.isStream()) {
+            handleStreamResponse(exchange, response);
         } else {
-            handleRenderedResponse(exchange, response);
+            handleRenderedResponse(exchange, response, attachment);
         }
     }
 
     /**
-     * Handles a binary response to the client by sending the binary content from the response
-     * to the undertow output stream
+     * Handles a binary response to the client by sending the binary content or transferring
+     * the binary file from the response
      *
      * @param exchange The Undertow HttpServerExchange
      * @param response The response object
@@ -52,6 +87,18 @@ public class ResponseHandler implements HttpHandler {
         exchange.dispatch(exchange.getDispatchExecutor(), new BinaryHandler(response));
     }
 
+    /**
+     * Handles a streamed response to the client by adding the default headers of the route
+     * and writing the chunks of the stream from the response with chunked transfer encoding
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param response The response object
+     */
+    protected void handleStreamResponse(HttpServerExchange exchange, Response response) {
+        this.headerBlock.apply(exchange.getResponseHeaders(), response.getContentType(), response.getCharset());
+        exchange.dispatch(exchange.getDispatchExecutor(), new StreamHandler(response));
+    }
+
     /**
      * Handles a redirect response to the client by sending a 403 status code to the client
      *
@@ -61,7 +108,7 @@ public class ResponseHandler implements HttpHandler {
     protected void handleRedirectResponse(HttpServerExchange exchange, Response response) {
         exchange.setStatusCode(StatusCodes.FOUND);
         exchange.getResponseHeaders().put(Headers.LOCATION, response.getRedirectTo());
-        exchange.getResponseHeaders().put(Headers.SERVER, CONFIG.getServerHeader());
+        this.headerBlock.applyRedirect(exchange.getResponseHeaders());
         response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().add(key, value)); //NOSONAR
         exchange.endExchange();
     }
@@ -73,14 +120,28 @@ public class ResponseHandler implements HttpHandler {
      * @param response The Response object
      * @return The body from the response object or an empty body if etag matches NONE_MATCH header
      */
-    protected String getResponseBody(HttpServerExchange exchange, Response response) {
-        String responseBody = response.getBody();
+    protected ByteBuffer getResponseBody(HttpServerExchange exchange, Response response) {
+        return getResponseBody(exchange, response, response.getBodyBuffer(), null);
+    }
+
+    /**
+     * Checks if an ETag needs to be handled for the given body. The ETag of a compressed
+     * response is suffixed with its content encoding, so that each representation has its own ETag.
+     *
+     * @param exchange The HttpServerExchange
+     * @param response The Response object
+     * @param body The body from the response object
+     * @param encoding The content encoding of the response or null if the response is not compressed
+     * @return The given body or an empty body if etag matches NONE_MATCH header
+     */
+    protected ByteBuffer getResponseBody(HttpServerExchange exchange, Response response, ByteBuffer body, String encoding) {
+        ByteBuffer responseBody = body;
         if (response.isETag()) {
             final String noneMatch = exchange.getRequestHeaders().getFirst(Headers.IF_NONE_MATCH_STRING);
-            final String etag = DigestUtils.md5Hex(responseBody); //NOSONAR
+            final String etag = (encoding == null) ? getETag(responseBody) : getETag(responseBody) + "-" + encoding;
             if (StringUtils.isNotBlank(noneMatch) && StringUtils.isNotBlank(etag) && noneMatch.equals(etag)) {
                 exchange.setStatusCode(StatusCodes.NOT_MODIFIED);
-                responseBody = "";
+                responseBody = EMPTY_BODY.duplicate();
             } else {
                 exchange.getResponseHeaders().put(Headers.ETAG, etag);
             }
@@ -89,27 +150,88 @@ public class ResponseHandler implements HttpHandler {
         return responseBody;
     }
 
+    /**
+     * Creates the ETag of the given body, either from its MD5 hash or, if configured
+     * in application.yaml, from its much cheaper CRC32 checksum
+     *
+     * @param body The body of the response
+     * @return The ETag of the body
+     */
+    protected String getETag(ByteBuffer body) {
+        if (this.checksumETag) {
+            return CodecUtils.hexCRC32(body);
+        }
+
+        final MessageDigest messageDigest = DigestUtils.getMd5Digest(); //NOSONAR
+        messageDigest.update(body.duplicate());
+
+        return Hex.encodeHexString(messageDigest.digest());
+    }
+
     /**
      * Handles a rendered response to the client by sending the rendered body from the response object
      *
      * @param exchange The Undertow HttpServerExchange
      * @param response The response object
+     * @param attachment The attachment of the current request
      */
-    protected void handleRenderedResponse(HttpServerExchange exchange, Response response) {
-        exchange.setStatusCode(response.getStatusCode());
-        exchange.getResponseHeaders().put(Header.X_XSS_PPROTECTION.toHttpString(), CONFIG.getXssProectionHeader());
-        exchange.getResponseHeaders().put(Header.X_CONTENT_TYPE_OPTIONS.toHttpString(), CONFIG.getXContentTypeOptionsHeader());
-        exchange.getResponseHeaders().put(Header.X_FRAME_OPTIONS.toHttpString(), CONFIG.getXFrameOptionsHeader());
-        exchange.getResponseHeaders().put(Header.REFERER_POLICY.toHttpString(), CONFIG.getRefererPolicy());
-        exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, response.getContentType() + "; charset=" + response.getCharset());
-        exchange.getResponseHeaders().put(Headers.SERVER, CONFIG.getServerHeader());
-        exchange.getResponseHeaders().put(Header.CONTENT_SECURITY_POLICY.toHttpString(), CONFIG.getContentSecurityPolicyHeader());
-        response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().add(key, value)); //NOSONAR
+    protected void handleRenderedResponse(HttpServerExchange exchange, Response response, Attachment attachment) {
+        addRenderedHeaders(exchange, response);
+        if (attachment.hasTimer()) {
+            exchange.getResponseHeaders().put(Header.X_RESPONSE_TIME.toHttpString(), attachment.getResponseTime() + " ms");
+        }
 
-        if (this.attachment.hasTimer()) {
-            exchange.getResponseHeaders().put(Header.X_RESPONSE_TIME.toHttpString(), this.attachment.getResponseTime() + " ms");
+        sendResponseBody(exchange, response);
+    }
+
+    /**
+     * Sends a response from the response cache to the client, without any request
+     * attachment being created for the current request
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param response The response object created from the cached response
+     */
+    public void handleCachedResponse(HttpServerExchange exchange, Response response) {
+        addRenderedHeaders(exchange, response);
+        sendResponseBody(exchange, response);
+    }
+
+    /**
+     * Sends the body of the response to the client, compressed with the content encoding
+     * negotiated with the client if the response is compressible
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param response The response object
+     */
+    private void sendResponseBody(HttpServerExchange exchange, Response response) {
+        ByteBuffer body = response.getBodyBuffer();
+        String encoding = null;
+        if (this.compressor.isEnabled() && !response.getHeaders().containsKey(Headers.CONTENT_ENCODING) && this.compressor.isCompressible(response.getContentType(), body.remaining())) {
+            exchange.getResponseHeaders().add(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+            encoding = this.compressor.negotiate(exchange);
         }
 
-        exchange.getResponseSender().send(getResponseBody(exchange, response));
+        body = getResponseBody(exchange, response, body, encoding);
+        if (encoding != null && body.hasRemaining()) {
+            final ByteBuffer compressed = this.compressor.compress(body, encoding);
+            if (compressed != null) {
+                exchange.getResponseHeaders().put(Headers.CONTENT_ENCODING, encoding);
+                body = compressed;
+            }
+        }
+
+        exchange.getResponseSender().send(body);
+    }
+
+    /**
+     * Adds the status code, the default headers of the route and the headers of the response to the exchange
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param response The response object
+     */
+    private void addRenderedHeaders(HttpServerExchange exchange, Response response) {
+        exchange.setStatusCode(response.getStatusCode());
+        this.headerBlock.apply(exchange.getResponseHeaders(), response.getContentType(), response.getCharset());
+        response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().add(key, value)); //NOSONAR
     }
 }
\ No newline at end of file
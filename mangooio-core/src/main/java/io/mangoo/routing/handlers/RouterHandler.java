@@ -0,0 +1,121 @@
+package io.mangoo.routing.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.mangoo.enums.Required;
+import io.mangoo.routing.RouteMatch;
+import io.mangoo.routing.RouteTree;
+import io.mangoo.utils.RequestUtils;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+
+/**
+ * Single routing layer for all routes of an application
+ *
+ * Exact paths (WebSocket and Server-Sent Event) are checked first, followed
+ * by prefix paths (resource folders) and the per HTTP method route trees.
+ * The path parameters of a matched route are attached to the exchange as
+ * {@link RouteMatch} instead of being copied into the exchange deques.
+ *
+ * @author svenkubiak
+ *
+ */
+public class RouterHandler implements HttpHandler {
+    private final Map<HttpString, RouteTree> routeTrees = new HashMap<>();
+    private final Map<String, HttpHandler> exactPaths = new HashMap<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final Map<String, HttpHandler> prefixPaths = new HashMap<>();
+    private final HttpHandler fallbackHandler;
+
+    public RouterHandler(HttpHandler fallbackHandler) {
+        this.fallbackHandler = Objects.requireNonNull(fallbackHandler, Required.HTTP_HANDLER.toString());
+    }
+
+    /**
+     * Adds a path template for the given HTTP method
+     *
+     * @param method The HTTP method
+     * @param url The path template, e.g. /foo/{bar}
+     * @param handler The handler to execute
+     * @return RouterHandler instance
+     */
+    public synchronized RouterHandler add(HttpString method, String url, HttpHandler handler) {
+        Objects.requireNonNull(method, Required.METHOD.toString());
+        this.routeTrees.computeIfAbsent(method, key -> new RouteTree()).add(url, handler);
+
+        return this;
+    }
+
+    /**
+     * Adds a path which must match the request path exactly
+     *
+     * @param url The path
+     * @param handler The handler to execute
+     * @return RouterHandler instance
+     */
+    public synchronized RouterHandler addExactPath(String url, HttpHandler handler) {
+        Objects.requireNonNull(url, Required.URL.toString());
+        Objects.requireNonNull(handler, Required.HTTP_HANDLER.toString());
+        this.exactPaths.put(url, handler);
+
+        return this;
+    }
+
+    /**
+     * Adds a prefix path. The remaining part of the request path is set as
+     * relative path of the exchange, so a ResourceHandler can resolve it.
+     *
+     * @param url The prefix, e.g. /assets/
+     * @param handler The handler to execute
+     * @return RouterHandler instance
+     */
+    public synchronized RouterHandler addPrefixPath(String url, HttpHandler handler) {
+        Objects.requireNonNull(url, Required.URL.toString());
+        Objects.requireNonNull(handler, Required.HTTP_HANDLER.toString());
+
+        final String prefix = (url.length() > 1 && url.endsWith("/")) ? url.substring(0, url.length() - 1) : url;
+        if (this.prefixPaths.put(prefix, handler) == null) {
+            this.prefixes.add(prefix);
+            this.prefixes.sort((first, second) -> Integer.compare(second.length(), first.length()));
+        }
+
+        return this;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        final String path = exchange.getRelativePath();
+
+        final HttpHandler exactHandler = this.exactPaths.get(path);
+        if (exactHandler != null) {
+            exactHandler.handleRequest(exchange);
+            return;
+        }
+
+        for (final String prefix : this.prefixes) {
+            if (path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                exchange.setRelativePath(path.substring(prefix.length()));
+                exchange.setResolvedPath(exchange.getResolvedPath() + prefix);
+                this.prefixPaths.get(prefix).handleRequest(exchange);
+                return;
+            }
+        }
+
+        final RouteTree routeTree = this.routeTrees.get(exchange.getRequestMethod());
+        if (routeTree != null) {
+            final RouteMatch routeMatch = routeTree.match(path);
+            if (routeMatch != null) {
+                exchange.putAttachment(RequestUtils.ROUTE_MATCH_KEY, routeMatch);
+                routeMatch.getHandler().handleRequest(exchange);
+                return;
+            }
+        }
+
+        this.fallbackHandler.handleRequest(exchange);
+    }
+}
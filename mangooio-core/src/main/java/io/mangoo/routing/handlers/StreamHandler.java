@@ -0,0 +1,117 @@
+package io.mangoo.routing.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.mangoo.enums.Required;
+import io.mangoo.interfaces.MangooStream;
+import io.mangoo.routing.Response;
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
+
+/**
+ * Sends a streamed response to the client. The default headers of the route, including
+ * the content type, are expected to be set already. As no content length is set, Undertow uses
+ * chunked transfer encoding. Each chunk is written with the non-blocking sender and the
+ * next chunk is requested from the stream once the previous one has been written.
+ *
+ * @author svenkubiak
+ *
+ */
+public class StreamHandler implements HttpHandler, IoCallback {
+    private static final Logger LOG = LogManager.getLogger(StreamHandler.class);
+    private static final int MAX_CHUNK_SIZE = 65536;
+    private final Response response;
+    private final MangooStream stream;
+    private Chunk chunk = new Chunk();
+    private boolean more;
+
+    public StreamHandler(Response response) {
+        this.response = Objects.requireNonNull(response, Required.RESPONSE.toString());
+        this.stream = Objects.requireNonNull(response.getStream(), Required.STREAM.toString());
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        exchange.setStatusCode(this.response.getStatusCode());
+        this.response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().add(key, value)); // NOSONAR
+
+        if (Methods.HEAD.equals(exchange.getRequestMethod())) {
+            exchange.endExchange();
+        } else {
+            writeChunk(exchange);
+        }
+    }
+
+    /**
+     * Requests the next chunk from the stream and writes it to the client
+     *
+     * @param exchange The Undertow HttpServerExchange
+     */
+    private void writeChunk(HttpServerExchange exchange) {
+        if (this.chunk.capacity() > MAX_CHUNK_SIZE) {
+            this.chunk = new Chunk();
+        }
+        this.chunk.reset();
+
+        try {
+            do {
+                this.more = this.stream.write(this.chunk);
+            } while (this.more && this.chunk.size() == 0);
+        } catch (final IOException | RuntimeException e) {
+            LOG.error("Failed to write chunk of streamed response", e);
+            if (exchange.isResponseStarted()) {
+                IoCallback.END_EXCHANGE.onException(exchange, exchange.getResponseSender(), new IOException(e));
+            } else {
+                exchange.setStatusCode(StatusCodes.INTERNAL_SERVER_ERROR);
+                exchange.endExchange();
+            }
+            return;
+        }
+
+        if (this.chunk.size() == 0) {
+            exchange.endExchange();
+        } else {
+            exchange.getResponseSender().send(this.chunk.toByteBuffer(), this);
+        }
+    }
+
+    @Override
+    public void onComplete(HttpServerExchange exchange, Sender sender) {
+        if (!this.more) {
+            exchange.endExchange();
+        } else if (exchange.isInIoThread()) {
+            exchange.dispatch(exchange.getDispatchExecutor(), () -> writeChunk(exchange));
+        } else {
+            writeChunk(exchange);
+        }
+    }
+
+    @Override
+    public void onException(HttpServerExchange exchange, Sender sender, IOException exception) {
+        LOG.debug("Failed to send chunk of streamed response", exception);
+        IoCallback.END_EXCHANGE.onException(exchange, sender, exception);
+    }
+
+    /**
+     * Reusable chunk buffer which can be written without copying its content
+     */
+    private static class Chunk extends ByteArrayOutputStream {
+        int capacity() {
+            return this.buf.length;
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(this.buf, 0, this.count);
+        }
+    }
+}
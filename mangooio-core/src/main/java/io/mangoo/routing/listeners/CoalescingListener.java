@@ -0,0 +1,47 @@
+package io.mangoo.routing.listeners;
+
+import java.util.Map;
+import java.util.Objects;
+
+import io.mangoo.enums.Required;
+import io.mangoo.routing.Attachment;
+import io.mangoo.routing.CachedResponse;
+import io.mangoo.routing.InFlightRequest;
+import io.mangoo.utils.RequestUtils;
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.StatusCodes;
+
+/**
+ * Completes an in-flight request once the exchange which processed it has been
+ * completed, passing the response to all identical requests that waited for it
+ *
+ * @author svenkubiak
+ *
+ */
+public class CoalescingListener implements ExchangeCompletionListener {
+    private final Map<String, InFlightRequest> inFlightRequests;
+    private final InFlightRequest inFlightRequest;
+    private final String key;
+
+    public CoalescingListener(Map<String, InFlightRequest> inFlightRequests, String key, InFlightRequest inFlightRequest) {
+        this.inFlightRequests = Objects.requireNonNull(inFlightRequests, Required.MAP.toString());
+        this.key = Objects.requireNonNull(key, Required.KEY.toString());
+        this.inFlightRequest = Objects.requireNonNull(inFlightRequest, Required.OBJECT.toString());
+    }
+
+    @Override
+    public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+        this.inFlightRequests.remove(this.key, this.inFlightRequest);
+
+        final Attachment attachment = exchange.getAttachment(RequestUtils.ATTACHMENT_KEY);
+        final int statusCode = exchange.getStatusCode();
+        if ((statusCode == StatusCodes.OK || statusCode == StatusCodes.NOT_MODIFIED) && CachedResponse.isShareable(attachment)) {
+            this.inFlightRequest.complete(CachedResponse.of(attachment.getResponse()));
+        } else {
+            this.inFlightRequest.complete(null);
+        }
+
+        nextListener.proceed();
+    }
+}
@@ -1,8 +1,10 @@
 package io.mangoo.utils;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.Objects;
+import java.util.zip.CRC32;
 
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.SerializationUtils;
@@ -37,6 +39,22 @@ public final class CodecUtils {
         return BCrypt.hashpw(data, BCrypt.gensalt(Default.JBCRYPT_ROUNDS.toInt()));
     }
     
+    /**
+     * Creates a fast, non-cryptographic checksum of the given data from its CRC32 and
+     * length, e.g. for ETags. Must not be used for anything security related.
+     *
+     * @param data The data to checksum
+     * @return The hex encoded checksum
+     */
+    public static String hexCRC32(ByteBuffer data) {
+        Objects.requireNonNull(data, Required.DATA.toString());
+
+        final CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+
+        return Long.toHexString(crc.getValue()) + '-' + Integer.toHexString(data.remaining());
+    }
+
     /**
      * Hashes a given cleartext data with SHA512
      * 
@@ -0,0 +1,109 @@
+package io.mangoo.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.common.base.Preconditions;
+
+import io.mangoo.enums.Required;
+
+/**
+ * Utility class for creating executors which run every task on its own virtual thread
+ * and named executor pools which are shared between routes
+ *
+ * @author svenkubiak
+ *
+ */
+public final class ExecutorUtils {
+    private static final Logger LOG = LogManager.getLogger(ExecutorUtils.class);
+    private static final MethodHandle VIRTUAL_EXECUTOR = getVirtualExecutorHandle();
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final Map<String, ExecutorService> POOLS = new ConcurrentHashMap<>(16, 0.9f, 1);
+    private static volatile ExecutorService virtualExecutor; //NOSONAR
+
+    private ExecutorUtils() {
+    }
+
+    /**
+     * @return True if the running JVM supports virtual threads, false otherwise
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Creates a new executor which starts a virtual thread for every task. There is no
+     * unbounded platform thread fallback, callers have to fall back to a bounded pool
+     * if the running JVM does not support virtual threads.
+     *
+     * @return A new ExecutorService or null if the running JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        if (VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invokeExact();
+            } catch (Throwable e) { //NOSONAR
+                LOG.error("Failed to create virtual thread executor", e);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return The virtual thread executor shared by all routes of the application or null if the running JVM does not support virtual threads
+     */
+    public static ExecutorService getVirtualThreadExecutor() {
+        if (virtualExecutor == null && VIRTUAL_EXECUTOR != null) {
+            synchronized (ExecutorUtils.class) {
+                if (virtualExecutor == null) {
+                    virtualExecutor = newVirtualThreadExecutor();
+                }
+            }
+        }
+
+        return virtualExecutor;
+    }
+
+    /**
+     * Returns the named executor pool with a fixed number of threads. The pool is created
+     * on first access, all following calls with the same name return the same pool.
+     *
+     * @param name The name of the pool
+     * @param size The number of threads of the pool
+     * @return The named ExecutorService
+     */
+    public static ExecutorService getPool(String name, int size) {
+        Objects.requireNonNull(name, Required.NAME.toString());
+        Preconditions.checkArgument(size > 0, "pool size must be greater than 0");
+
+        return POOLS.computeIfAbsent(name, key -> Executors.newFixedThreadPool(size, getThreadFactory("mangooio-" + key + "-")));
+    }
+
+    private static ThreadFactory getThreadFactory(String prefix) {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static MethodHandle getVirtualExecutorHandle() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) { //NOSONAR
+            return null;
+        }
+    }
+}
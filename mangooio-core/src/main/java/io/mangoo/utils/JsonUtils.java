@@ -1,5 +1,8 @@
 package io.mangoo.utils;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Objects;
 
@@ -10,6 +13,7 @@ import io.advantageous.boon.json.JsonFactory;
 import io.advantageous.boon.json.JsonSerializer;
 import io.advantageous.boon.json.JsonSerializerFactory;
 import io.advantageous.boon.json.ObjectMapper;
+import io.advantageous.boon.primitive.CharBuf;
 import io.mangoo.enums.Required;
 
 /**
@@ -20,6 +24,8 @@ import io.mangoo.enums.Required;
 public final class JsonUtils {
     private static volatile JsonSerializer jsonSerializer = createJsonSerializer();
     private static ObjectMapper objectMapper = JsonFactory.create();
+    private static final ThreadLocal<CharBuf> CHAR_BUF = ThreadLocal.withInitial(CharBuf::createCharBuf);
+    private static final int MAX_POOLED_CHARS = 65536;
     
     private JsonUtils(){
     }
@@ -51,6 +57,28 @@ public final class JsonUtils {
         return jsonSerializer.serialize(object).toString();
     }
     
+    /**
+     * Converts a given object to UTF-8 encoded Json bytes, using a per thread
+     * reusable character buffer instead of creating an intermediate String
+     * 
+     * @param object The object to convert
+     * @return A ByteBuffer containing the UTF-8 encoded json
+     */
+    public static ByteBuffer toJsonBuffer(Object object) {
+        Objects.requireNonNull(object, Required.OBJECT.toString());
+        
+        final CharBuf charBuf = CHAR_BUF.get();
+        charBuf.recycle();
+        jsonSerializer.serialize(charBuf, object);
+        
+        final ByteBuffer byteBuffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(charBuf.toCharArray(), 0, charBuf.len()));
+        if (charBuf.toCharArray().length > MAX_POOLED_CHARS) {
+            CHAR_BUF.remove();
+        }
+        
+        return byteBuffer;
+    }
+    
     /**
      * Converts a given Json string to an JSONPath ReadContext
      * 
@@ -79,6 +107,23 @@ public final class JsonUtils {
         return objectMapper.fromJson(json, clazz);
     }
 
+    /**
+     * Converts the given UTF-8 encoded Json bytes to given Class, without
+     * creating an intermediate String
+     * 
+     * @param json The json bytes to convert
+     * @param clazz The Class to convert to
+     * @param <T> JavaDoc wants this, just ignore it
+     * 
+     * @return The converted class
+     */
+    public static <T> T fromJson(byte[] json, Class<T> clazz) {
+        Objects.requireNonNull(json, Required.JSON.toString());
+        Objects.requireNonNull(clazz, Required.CLASS.toString());
+        
+        return objectMapper.readValue(json, clazz);
+    }
+
     /**
      * Converts a given Json string to a collection of a given Class
      * 
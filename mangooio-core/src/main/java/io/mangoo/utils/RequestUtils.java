@@ -5,8 +5,6 @@ import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Deque;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -31,6 +29,9 @@ import io.mangoo.enums.Required;
 import io.mangoo.enums.oauth.OAuthProvider;
 import io.mangoo.models.Identity;
 import io.mangoo.routing.Attachment;
+import io.mangoo.routing.DetachedConnection;
+import io.mangoo.routing.RequestParameter;
+import io.mangoo.routing.RouteMatch;
 import io.undertow.security.api.AuthenticationMechanism;
 import io.undertow.security.api.AuthenticationMode;
 import io.undertow.security.handlers.AuthenticationCallHandler;
@@ -41,6 +42,8 @@ import io.undertow.security.impl.BasicAuthenticationMechanism;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.Cookie;
+import io.undertow.server.handlers.form.FormEncodedDataDefinition;
+import io.undertow.server.handlers.form.MultiPartParserDefinition;
 import io.undertow.server.handlers.sse.ServerSentEventConnection;
 import io.undertow.util.AttachmentKey;
 import io.undertow.util.Cookies;
@@ -56,9 +59,11 @@ import io.undertow.websockets.core.WebSocketChannel;
  */
 public final class RequestUtils {
     public static final AttachmentKey<Attachment> ATTACHMENT_KEY = AttachmentKey.create(Attachment.class);
+    public static final AttachmentKey<RouteMatch> ROUTE_MATCH_KEY = AttachmentKey.create(RouteMatch.class);
     private static final Config CONFIG = Application.getConfig();
     private static final String SCOPE = "https://www.googleapis.com/auth/userinfo.email";
     private static final int MAX_RANDOM = 999_999;
+    private static final int INITIAL_KEY_SIZE = 128;
     private static final int AUTH_PREFIX_LENGTH = 3;
     private static final int INDEX_0 = 0;
     private static final int INDEX_1 = 1;
@@ -68,20 +73,17 @@ public final class RequestUtils {
     }
 
     /**
-     * Converts request and query parameter into a single map
+     * Creates a read-through view of the request and query parameter, where path
+     * parameters take precedence over query parameters with the same name. The
+     * parameters are not copied but looked up when they are read.
      *
      * @param exchange The Undertow HttpServerExchange
-     * @return A single map contain both request and query parameter
+     * @return A single map view on both request and query parameter
      */
     public static Map<String, String> getRequestParameters(HttpServerExchange exchange) {
         Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE.toString());
 
-        final Map<String, String> requestParamater = new HashMap<>();
-        final Map<String, Deque<String>> queryParameters = exchange.getQueryParameters();
-        queryParameters.putAll(exchange.getPathParameters());
-        queryParameters.entrySet().forEach(entry -> requestParamater.put(entry.getKey(), entry.getValue().element())); //NOSONAR
-
-        return requestParamater;
+        return new RequestParameter(exchange.getQueryParameters(), exchange.getAttachment(ROUTE_MATCH_KEY));
     }
 
     /**
@@ -110,6 +112,108 @@ public final class RequestUtils {
                 headerMap.get(Headers.CONTENT_TYPE).element().toLowerCase(Locale.ENGLISH).contains(ContentType.APPLICATION_JSON.toString().toLowerCase(Locale.ENGLISH));
     }
 
+    /**
+     * Checks if the requests content-type is application/x-www-form-urlencoded or multipart/form-data
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @return True if the request content-type is a form content-type, false otherwise
+     */
+    public static boolean isFormRequest(HttpServerExchange exchange) {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE.toString());
+
+        final String contentType = exchange.getRequestHeaders().getFirst(Headers.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+
+        final String value = contentType.toLowerCase(Locale.ENGLISH);
+        return value.startsWith(FormEncodedDataDefinition.APPLICATION_X_WWW_FORM_URLENCODED) || value.startsWith(MultiPartParserDefinition.MULTIPART_FORM_DATA);
+    }
+
+    /**
+     * Checks if the request has neither a session, an authentication nor a flash cookie
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @return True if the request is from an anonymous client, false otherwise
+     */
+    public static boolean isAnonymous(HttpServerExchange exchange) {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE.toString());
+
+        final Map<String, Cookie> cookies = exchange.getRequestCookies();
+        return cookies == null || (!cookies.containsKey(CONFIG.getSessionCookieName())
+                && !cookies.containsKey(CONFIG.getAuthenticationCookieName())
+                && !cookies.containsKey(CONFIG.getFlashCookieName()));
+    }
+
+    /**
+     * Creates a key which identifies all requests that render the same response,
+     * based on request method, request path, query string, i18n cookie and the given
+     * request headers
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param vary The names of the request headers the response varies on
+     * @return The key of the request
+     */
+    public static String getResponseKey(HttpServerExchange exchange, String [] vary) {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE.toString());
+        Objects.requireNonNull(vary, Required.HEADERS.toString());
+
+        final StringBuilder buffer = new StringBuilder(INITIAL_KEY_SIZE)
+                .append(exchange.getRequestMethod())
+                .append(' ')
+                .append(exchange.getRequestPath())
+                .append('?')
+                .append(exchange.getQueryString());
+
+        final Cookie i18nCookie = exchange.getRequestCookies().get(CONFIG.getI18nCookieName());
+        buffer.append('|');
+        if (i18nCookie != null) {
+            buffer.append(i18nCookie.getValue());
+        }
+
+        for (final String header : vary) {
+            buffer.append('|');
+            final String value = exchange.getRequestHeaders().getFirst(header);
+            if (value != null) {
+                buffer.append(value);
+            }
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Creates a snapshot of the request part of an exchange, which can be passed through the
+     * request chain after the original exchange has been completed. The snapshot does not share
+     * the connection of the original exchange, which may already serve another request by then.
+     * It has no request or response channel and must not be used to send a response.
+     *
+     * @param exchange The Undertow HttpServerExchange to copy
+     * @return A detached HttpServerExchange
+     */
+    public static HttpServerExchange detach(HttpServerExchange exchange) {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE.toString());
+
+        final HttpServerExchange detached = new HttpServerExchange(new DetachedConnection(exchange.getConnection()));
+        detached.setRequestMethod(exchange.getRequestMethod());
+        detached.setProtocol(exchange.getProtocol());
+        detached.setRequestScheme(exchange.getRequestScheme());
+        detached.setRequestURI(exchange.getRequestURI());
+        detached.setRequestPath(exchange.getRequestPath());
+        detached.setRelativePath(exchange.getRelativePath());
+        detached.setResolvedPath(exchange.getResolvedPath());
+        detached.setQueryString(exchange.getQueryString());
+        exchange.getQueryParameters().forEach((key, values) -> values.forEach(value -> detached.addQueryParam(key, value))); //NOSONAR
+        exchange.getRequestHeaders().forEach(values -> detached.getRequestHeaders().addAll(values.getHeaderName(), values)); //NOSONAR
+
+        final RouteMatch routeMatch = exchange.getAttachment(ROUTE_MATCH_KEY);
+        if (routeMatch != null) {
+            detached.putAttachment(ROUTE_MATCH_KEY, routeMatch);
+        }
+
+        return detached;
+    }
+
     /**
      * Creates an OAuthService for authentication a user with OAuth
      *
@@ -45,7 +45,87 @@
             	<p>Avg process time</p>
             </div>
         </div>
-    </div>    
+    </div>
+</div>
+<div class="row">
+    <div class="col-lg-3 col-xs-6">
+    	<div class="small-box bg-yellow">
+        	<div class="inner">
+            	<h3>${coalescedFallbacks}</h3>
+            	<p>Coalescing fallbacks</p>
+            </div>
+        </div>
+    </div>
+    <div class="col-lg-3 col-xs-6">
+    	<div class="small-box bg-yellow">
+        	<div class="inner">
+            	<h3>${coalescedRequests}</h3>
+            	<p>Coalesced requests</p>
+            </div>
+        </div>
+    </div>
+</div>
+<#if limiter.enabled>
+<div class="row">
+    <div class="col-lg-3 col-xs-6">
+    	<div class="small-box bg-purple">
+        	<div class="inner">
+            	<h3>${limiter.limit}</h3>
+            	<p>Concurrency limit</p>
+            </div>
+        </div>
+    </div>
+    <div class="col-lg-3 col-xs-6">
+    	<div class="small-box bg-purple">
+        	<div class="inner">
+            	<h3>${limiter.rtt} ms</h3>
+            	<p>Measured RTT</p>
+            </div>
+        </div>
+    </div>
+    <div class="col-lg-3 col-xs-6">
+    	<div class="small-box bg-purple">
+        	<div class="inner">
+            	<h3>${limiter.shed}</h3>
+            	<p>Shed requests</p>
+            </div>
+        </div>
+    </div>
+</div>
+</#if>
+<div class="row">
+    <div class="col-lg-3 col-xs-6">
+    	<div class="small-box bg-teal">
+        	<div class="inner">
+            	<h3>${assets.hits}</h3>
+            	<p>Asset cache hits</p>
+            </div>
+        </div>
+    </div>
+    <div class="col-lg-3 col-xs-6">
+    	<div class="small-box bg-teal">
+        	<div class="inner">
+            	<h3>${assets.misses} / ${assets.evictions}</h3>
+            	<p>Asset cache misses / evictions</p>
+            </div>
+        </div>
+    </div>
+    <div class="col-lg-3 col-xs-6">
+    	<div class="small-box bg-teal">
+        	<div class="inner">
+            	<h3>${assets.bytesServed}</h3>
+            	<p>Asset bytes served</p>
+            </div>
+        </div>
+    </div>
+    <div class="col-lg-3 col-xs-6">
+    	<div class="small-box bg-teal">
+        	<div class="inner">
+            	<h3>${assets.entries} / ${assets.size}</h3>
+            	<p>Cached assets / bytes</p>
+            </div>
+        </div>
+    </div>
 </div>
 <div class="row">
 	<div class="col-xs-12">
@@ -76,5 +156,65 @@
     	</div>
 	</div>
 </div>
+<#if bulkheads?has_content>
+<div class="row">
+	<div class="col-xs-12">
+    	<div class="box">
+            <div class="box-body table-responsive no-padding">
+            	<table class="table table-hover">
+                	<thead>
+						<tr>
+							<th data-sort="string"><b>Route</b></th>
+							<th data-sort="int"><b>In-flight</b></th>
+							<th data-sort="int"><b>Queued</b></th>
+							<th data-sort="int"><b>Rejected</b></th>
+							<th data-sort="int"><b>Concurrency</b></th>
+							<th data-sort="int"><b>Queue</b></th>
+						</tr>
+					</thead>
+					<tbody>
+						<#list bulkheads as route, bulkhead>
+							<tr>
+								<td>${route}</td>
+								<td>${bulkhead.inFlight}</td>
+								<td>${bulkhead.queued}</td>
+								<td>${bulkhead.rejected}</td>
+								<td>${bulkhead.concurrency}</td>
+								<td>${bulkhead.queueSize}</td>
+							</tr>
+						</#list>
+                	</tbody>
+                </table>
+        	</div>
+    	</div>
+	</div>
+</div>
+</#if>
+<#if timeouts?has_content>
+<div class="row">
+	<div class="col-xs-12">
+    	<div class="box">
+            <div class="box-body table-responsive no-padding">
+            	<table class="table table-hover">
+                	<thead>
+						<tr>
+							<th data-sort="string"><b>Route</b></th>
+							<th data-sort="int"><b>Timeouts</b></th>
+						</tr>
+					</thead>
+					<tbody>
+						<#list timeouts as route, count>
+							<tr>
+								<td>${route}</td>
+								<td>${count}</td>
+							</tr>
+						</#list>
+                	</tbody>
+                </table>
+        	</div>
+    	</div>
+	</div>
+</div>
+</#if>
 </section>
 <#include "footer.ftl">
\ No newline at end of file
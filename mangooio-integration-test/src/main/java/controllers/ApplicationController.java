@@ -4,7 +4,15 @@ import java.io.File;
 import java.net.URL;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.commons.lang3.StringUtils;
 
 import io.mangoo.routing.Response;
 import io.mangoo.routing.bindings.Request;
@@ -24,6 +32,19 @@ public class ApplicationController {
         return Response.withOk().andTextBody("foo");
     }
     
+    public Response compressed() {
+        return Response.withOk().andTextBody(StringUtils.repeat("mangoo I/O ", 1000));
+    }
+
+    public Response jsonstream() {
+        return Response.withOk().andJsonStream(Collections.nCopies(3, Collections.singletonMap("foo", "bar")).iterator());
+    }
+
+    public Response csvstream() {
+        final List<List<String>> rows = Arrays.asList(Arrays.asList("foo", "bar"), Arrays.asList("foo,bar", "\"baz\""));
+        return Response.withOk().andCsvStream(rows.iterator());
+    }
+
     public Response limit() {
         return Response.withOk().andEmptyBody();
     }
@@ -55,6 +76,14 @@ public class ApplicationController {
         return Response.withOk().andTextBody("foo").andEtag();
     }
 
+    public Response validated() {
+        return Response.withOk().andTextBody("validated");
+    }
+
+    public String version() {
+        return "42";
+    }
+
     @SuppressWarnings("all")
     public Response binary() {
         final URL url = this.getClass().getResource("/attachment.txt");
@@ -71,6 +100,10 @@ public class ApplicationController {
         return Response.withOk().andTextBody(request.getBody());
     }
 
+    public Response thread() {
+        return Response.withOk().andTextBody(Thread.currentThread().getName());
+    }
+
     public Response put(Request request) {
         return Response.withOk().andTextBody(request.getBody());
     }
@@ -101,4 +134,41 @@ public class ApplicationController {
                 .andEmptyBody()
                 .andHeader(new HttpString("Access-Control-Allow-Origin"), "https://mangoo.io");
     }
+    
+    public Response stateless(Request request) {
+        return Response.withOk().andTextBody(request.getSession() == null ? "stateless" : "stateful");
+    }
+    
+    public Response cached() {
+        return Response.withOk().andTextBody(UUID.randomUUID().toString());
+    }
+    
+    public Response slow() throws InterruptedException {
+        Thread.sleep(500);
+        return Response.withOk().andTextBody("slow");
+    }
+    
+    public Response stubborn() {
+        final long end = System.currentTimeMillis() + 1000;
+        while (System.currentTimeMillis() < end) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) { //NOSONAR
+                //Ignores the interrupt of the deadline on purpose
+            }
+        }
+        return Response.withOk().andTextBody("stubborn");
+    }
+    
+    public Response deadline(Request request) {
+        return Response.withOk().andTextBody(String.valueOf(request.getRemainingTime() > 0 && request.getRemainingTime() <= 5000));
+    }
+    
+    public CompletionStage<Response> async() {
+        return CompletableFuture.supplyAsync(() -> Response.withOk().andTextBody("async"));
+    }
+    
+    public CompletionStage<Response> asynctimeout() {
+        return new CompletableFuture<>();
+    }
 }
\ No newline at end of file
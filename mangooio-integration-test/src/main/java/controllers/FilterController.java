@@ -1,5 +1,9 @@
 package controllers;
 
+import java.util.UUID;
+
+import filters.ApiKeyFilter;
+import filters.AsyncHeaderFilter;
 import filters.ContentFilter;
 import filters.FilterOne;
 import filters.FilterThree;
@@ -21,6 +25,16 @@ public class FilterController {
         return Response.withOk().andEmptyBody();
     }
     
+    @FilterWith(ApiKeyFilter.class)
+    public Response cachedfilter() {
+        return Response.withOk().andTextBody(UUID.randomUUID().toString());
+    }
+    
+    @FilterWith(AsyncHeaderFilter.class)
+    public Response asyncfilter() {
+        return Response.withOk().andEmptyBody();
+    }
+    
     @FilterWith({FilterOne.class, FilterTwo.class, FilterThree.class})
     public Response filters(Request request) {
         String one = (String) request.getAttribute("filterone");
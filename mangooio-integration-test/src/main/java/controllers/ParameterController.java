@@ -51,6 +51,10 @@ public class ParameterController {
         return Response.withOk().andTemplate(MULTIPARAM_TEMPLATE).andContent(FOO, foo).andContent("bar", bar);
     }
 
+    public Response multivalueParam(String [] foo) {
+        return Response.withOk().andTextBody(String.join(",", foo));
+    }
+
     public Response pathParam(String foo) {
         return Response.withOk().andTemplate(PARAM_TEMPLATE).andContent(FOO, foo);
     }
@@ -0,0 +1,19 @@
+package filters;
+
+import io.mangoo.interfaces.MangooFilter;
+import io.mangoo.routing.Response;
+import io.mangoo.routing.bindings.Request;
+import io.undertow.util.HttpString;
+
+public class ApiKeyFilter implements MangooFilter {
+    private static final HttpString API_KEY = HttpString.tryFromString("X-Api-Key");
+
+    @Override
+    public Response execute(Request request, Response response) {
+        if (!"secret".equals(request.getHeader(API_KEY))) {
+            return Response.withForbidden().andEmptyBody().end();
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,16 @@
+package filters;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.mangoo.interfaces.MangooAsyncFilter;
+import io.mangoo.routing.Response;
+import io.mangoo.routing.bindings.Request;
+import io.undertow.util.Headers;
+
+public class AsyncHeaderFilter implements MangooAsyncFilter {
+    @Override
+    public CompletionStage<Response> executeAsync(Request request, Response response) {
+        return CompletableFuture.supplyAsync(() -> response.andHeader(Headers.CONTENT_MD5, "42"));
+    }
+}
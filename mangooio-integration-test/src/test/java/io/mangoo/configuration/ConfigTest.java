@@ -56,6 +56,25 @@ public class ConfigTest {
         assertThat(config.getLong(Key.CONNECTOR_HTTP_PORT.toString()), equalTo(10808L));
     }
 
+    @Test
+    public void testUndertowOptions() {
+        //given
+        final Config config = Application.getInstance(Config.class);
+
+        //then
+        assertThat(config.isConnectorHttp2(), equalTo(true));
+        assertThat(config.getUndertowIoThreads(), equalTo(2));
+        assertThat(config.getUndertowWorkerThreads(), equalTo(32));
+        assertThat(config.getUndertowBufferSize(), equalTo(16384));
+        assertThat(config.isUndertowDirectBuffers(), equalTo(true));
+        assertThat(config.getUndertowIdleTimeout(), equalTo(60000));
+        assertThat(config.getUndertowNoRequestTimeout(), equalTo(60000));
+        assertThat(config.getUndertowMaxHeaders(), equalTo(200));
+        assertThat(config.getUndertowMaxParameters(), equalTo(1000));
+        assertThat(config.isUndertowPipelining(), equalTo(true));
+        assertThat(config.getConnectorHttpsPort(), equalTo(0));
+    }
+
     @Test
     public void testGetStringDefaultValue() {
         //given
@@ -102,6 +121,15 @@ public class ConfigTest {
         assertThat(config.hasValidSecret(), equalTo(true));
     }
 
+    @Test
+    public void testGetHasValidExecutors() {
+        //given
+        final Config config = Application.getInstance(Config.class);
+
+        //then
+        assertThat(config.hasValidExecutors(), equalTo(true));
+    }
+
     @Test
     public void testGetAllConfigurationValues() {
         //given
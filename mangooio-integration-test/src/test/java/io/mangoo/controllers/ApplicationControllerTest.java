@@ -7,12 +7,23 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -226,10 +237,81 @@ public class ApplicationControllerTest {
 
         //then
         assertThat(response.getStatusLine().getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getFirstHeader(Headers.ACCEPT_RANGES_STRING).getValue(), equalTo("bytes"));
+        assertThat(response.getFirstHeader(Headers.LAST_MODIFIED_STRING), not(nullValue()));
         assertThat(FileUtils.readFileToString(file, Default.ENCODING.toString()), equalTo("This is an attachment"));
         assertThat(file.delete(), equalTo(true));
     }
 
+    @Test
+    public void testBinaryDownloadRange() throws IOException {
+        //given
+        final Config config = Application.getInjector().getInstance(Config.class);
+        final String host = config.getConnectorHttpHost();
+        final int port = config.getConnectorHttpPort();
+
+        //when
+        final CloseableHttpClient httpclient = HttpClients.custom().build();
+        final HttpGet httpget = new HttpGet("http://" + host + ":" + port + "/binary");
+        httpget.addHeader(Headers.RANGE_STRING, "bytes=8-9");
+        final CloseableHttpResponse response = httpclient.execute(httpget);
+        final String content = EntityUtils.toString(response.getEntity());
+        response.close();
+        httpclient.close();
+
+        //then
+        assertThat(response.getStatusLine().getStatusCode(), equalTo(StatusCodes.PARTIAL_CONTENT));
+        assertThat(response.getFirstHeader(Headers.CONTENT_RANGE_STRING).getValue(), equalTo("bytes 8-9/21"));
+        assertThat(content, equalTo("an"));
+    }
+
+    @Test
+    public void testJsonStream() {
+        //given
+        WebResponse response = WebRequest.get("/jsonstream").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContentType(), equalTo("application/x-ndjson; charset=UTF-8"));
+        assertThat(response.getContent(), equalTo(JSON + "\n" + JSON + "\n" + JSON + "\n"));
+    }
+
+    @Test
+    public void testCsvStream() {
+        //given
+        WebResponse response = WebRequest.get("/csvstream").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContentType(), equalTo("text/csv; charset=UTF-8"));
+        assertThat(response.getContent(), equalTo("foo,bar\r\n\"foo,bar\",\"\"\"baz\"\"\"\r\n"));
+    }
+
+    @Test
+    public void testCompression() throws IOException {
+        //given
+        final Config config = Application.getInjector().getInstance(Config.class);
+        final String host = config.getConnectorHttpHost();
+        final int port = config.getConnectorHttpPort();
+
+        //when
+        final CloseableHttpClient httpclient = HttpClients.custom().disableContentCompression().build();
+        final HttpGet httpget = new HttpGet("http://" + host + ":" + port + "/compressed");
+        httpget.addHeader(Headers.ACCEPT_ENCODING_STRING, "gzip, deflate");
+        final CloseableHttpResponse response = httpclient.execute(httpget);
+        final byte [] body = EntityUtils.toByteArray(response.getEntity());
+        response.close();
+        httpclient.close();
+
+        //then
+        assertThat(response.getStatusLine().getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getFirstHeader(Headers.CONTENT_ENCODING_STRING).getValue(), equalTo("gzip"));
+        assertThat(response.getFirstHeader(Headers.VARY_STRING).getValue(), equalTo(Headers.ACCEPT_ENCODING_STRING));
+        assertThat(IOUtils.toString(new GZIPInputStream(new ByteArrayInputStream(body)), StandardCharsets.UTF_8), equalTo(StringUtils.repeat("mangoo I/O ", 1000)));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testEtag() {
@@ -250,6 +332,26 @@ public class ApplicationControllerTest {
         assertThat(response.getContent(), equalTo(""));
     }
 
+    @Test
+    public void testValidator() {
+        //given
+        WebResponse response = WebRequest.get("/validated").execute();
+        final String etag = response.getHeader(Headers.ETAG_STRING);
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("validated"));
+        assertThat(etag, not(nullValue()));
+
+        //given
+        response = WebRequest.get("/validated").withHeader(Headers.IF_NONE_MATCH_STRING, etag).execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.NOT_MODIFIED));
+        assertThat(response.getContent(), equalTo(""));
+        assertThat(response.getHeader(Headers.ETAG_STRING), equalTo(etag));
+    }
+
     @Test
     public void testPost() {
         //given
@@ -264,6 +366,44 @@ public class ApplicationControllerTest {
         assertThat(response.getContent(), equalTo("Winter is coming!"));
     }
 
+    @Test
+    public void testPostWithMaxEntitySize() {
+        //given
+        final WebResponse response = WebRequest.post("/post/limited")
+                .withRequestBody("Winter is coming!")
+                .execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.REQUEST_ENTITY_TOO_LARGE));
+    }
+
+    @Test
+    public void testPostOnWorkerThread() {
+        //given
+        final WebResponse response = WebRequest.post("/post/thread")
+                .withRequestBody("Winter is coming!")
+                .execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), not(containsString("I/O")));
+    }
+
+    @Test
+    public void testPostOnIoThread() {
+        //given
+        final WebResponse response = WebRequest.post("/post/iothread")
+                .withRequestBody("Winter is coming!")
+                .execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), containsString("I/O"));
+    }
+
     @Test
     public void testPut() {
         //given
@@ -360,4 +500,190 @@ public class ApplicationControllerTest {
         assertThat(response.getHeader(Header.CONTENT_SECURITY_POLICY.toString()), equalTo(""));
         assertThat(response.getHeader(Header.REFERER_POLICY.toString()), equalTo("no-referrer"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRouteHeaders() {
+        //given
+        final WebResponse response = WebRequest.get("/routeheaders").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getHeader(Headers.CACHE_CONTROL_STRING), equalTo("public, max-age=60"));
+        assertThat(response.getHeader(Header.X_FRAME_OPTIONS.toString()), equalTo("SAMEORIGIN"));
+        assertThat(response.getHeader(Header.CONTENT_SECURITY_POLICY.toString()), nullValue());
+        assertThat(response.getHeader(Header.X_CONTENT_TYPE_OPTIONS.toString()), equalTo("nosniff"));
+        assertThat(response.getHeader(Headers.SERVER.toString()), equalTo("Undertow"));
+    }
+    
+    @Test
+    public void testStateless() {
+        //given
+        final WebResponse response = WebRequest.get("/stateless").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("stateless"));
+    }
+    
+    @Test
+    public void testCached() {
+        //given
+        final WebResponse response = WebRequest.get("/cached").execute();
+        final WebResponse cachedResponse = WebRequest.get("/cached").execute();
+        final WebResponse otherResponse = WebRequest.get("/cached?foo=bar").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(cachedResponse.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(cachedResponse.getContent(), equalTo(response.getContent()));
+        assertThat(otherResponse.getContent(), not(equalTo(response.getContent())));
+        assertThat(response.getHeader(Headers.VARY_STRING), containsString("Accept-Language"));
+        assertThat(cachedResponse.getHeader(Headers.VARY_STRING), containsString("Accept-Language"));
+    }
+    
+    @Test
+    public void testCachedWithFlash() {
+        //given
+        final Config config = Application.getInjector().getInstance(Config.class);
+        final WebResponse response = WebRequest.get("/cached").execute();
+        final WebResponse flashResponse = WebRequest.get("/cached")
+                .withHeader(Headers.COOKIE_STRING, config.getFlashCookieName() + "=foo")
+                .execute();
+
+        //then
+        assertThat(flashResponse.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(flashResponse.getContent(), not(equalTo(response.getContent())));
+    }
+    
+    @Test
+    public void testCachedStream() {
+        //given
+        final WebResponse response = WebRequest.get("/cachedstream").execute();
+        final WebResponse secondResponse = WebRequest.get("/cachedstream").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo(JSON + "\n" + JSON + "\n" + JSON + "\n"));
+        assertThat(response.getHeader(Header.X_FRAME_OPTIONS.toString()), equalTo("DENY"));
+        assertThat(response.getHeader(Header.X_CONTENT_TYPE_OPTIONS.toString()), equalTo("nosniff"));
+        assertThat(secondResponse.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(secondResponse.getContent(), equalTo(response.getContent()));
+    }
+
+    @Test
+    public void testCoalesce() throws InterruptedException, ExecutionException {
+        //given
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        final List<Future<WebResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(() -> WebRequest.get("/coalesce").execute()));
+        }
+
+        //then
+        for (final Future<WebResponse> future : futures) {
+            final WebResponse response = future.get();
+            assertThat(response, not(nullValue()));
+            assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+            assertThat(response.getContent(), equalTo("foo"));
+        }
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testVirtualExecutor() {
+        //given
+        final WebResponse response = WebRequest.get("/virtual").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("foo"));
+    }
+
+    @Test
+    public void testAsync() {
+        //given
+        final WebResponse response = WebRequest.get("/async").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("async"));
+    }
+
+    @Test
+    public void testAsyncTimeout() {
+        //given
+        final WebResponse response = WebRequest.get("/asynctimeout").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    public void testBulkhead() throws InterruptedException, ExecutionException {
+        //given
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        final List<Future<WebResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executorService.submit(() -> WebRequest.get("/bulkhead").execute()));
+        }
+
+        //then
+        int ok = 0;
+        int rejected = 0;
+        for (final Future<WebResponse> future : futures) {
+            final WebResponse response = future.get();
+            assertThat(response, not(nullValue()));
+            if (response.getStatusCode() == StatusCodes.OK) {
+                assertThat(response.getContent(), equalTo("slow"));
+                ok++;
+            } else {
+                assertThat(response.getStatusCode(), equalTo(StatusCodes.SERVICE_UNAVAILABLE));
+                assertThat(response.getHeader(Headers.RETRY_AFTER_STRING), equalTo("1"));
+                rejected++;
+            }
+        }
+        assertThat(ok > 0, equalTo(true));
+        assertThat(rejected > 0, equalTo(true));
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testDeadline() {
+        //given
+        final WebResponse response = WebRequest.get("/deadline").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("true"));
+    }
+
+    @Test
+    public void testDeadlineExceeded() {
+        //given
+        final WebResponse response = WebRequest.get("/deadlineexceeded").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    public void testDeadlineIgnored() {
+        //given
+        final long start = System.currentTimeMillis();
+        final WebResponse response = WebRequest.get("/deadlineignored").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.SERVICE_UNAVAILABLE));
+        assertThat(System.currentTimeMillis() - start < 1000, equalTo(true));
+    }
+}
@@ -41,6 +41,17 @@ public class FilterControllerTest {
         assertThat(response.getHeader(Headers.CONTENT_MD5_STRING), equalTo("12"));
     }
     
+    @Test
+    public void testAsyncFilter() {
+        //given
+        WebResponse response = WebRequest.get("/asyncfilter").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getHeader(Headers.CONTENT_MD5_STRING), equalTo("42"));
+    }
+    
     @Test
     public void testMultipleFilters() {
         //given
@@ -51,4 +62,19 @@ public class FilterControllerTest {
         assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
         assertThat(response.getContent(), equalTo("filteronefiltertwofilterthree"));
     }
+
+    @Test
+    public void testFilterWithCachedResponse() {
+        //given
+        WebResponse response = WebRequest.get("/cachedfilter").withHeader("X-Api-Key", "secret").execute();
+        WebResponse deniedResponse = WebRequest.get("/cachedfilter").execute();
+        WebResponse cachedResponse = WebRequest.get("/cachedfilter").withHeader("X-Api-Key", "secret").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(deniedResponse.getStatusCode(), equalTo(StatusCodes.FORBIDDEN));
+        assertThat(cachedResponse.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(cachedResponse.getContent(), equalTo(response.getContent()));
+    }
 }
\ No newline at end of file
@@ -151,6 +151,18 @@ public class ParameterControllerTest {
         assertThat(response.getContent(), equalTo("bar:1"));
     }
 
+    @Test
+    public void testMultivalueParameter() {
+        //given
+        WebResponse response = WebRequest.get("/multivalue?foo=bar&foo=baz").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getContentType(), equalTo(TEXT_PLAIN));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("bar,baz"));
+    }
+
     @Test
     public void testPathParameter() {
         //given
@@ -1,6 +1,7 @@
 package io.mangoo.handlers;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -9,6 +10,7 @@ import org.junit.Test;
 
 import io.mangoo.test.utils.WebRequest;
 import io.mangoo.test.utils.WebResponse;
+import io.undertow.util.Headers;
 import io.undertow.util.StatusCodes;
 
 /**
@@ -50,4 +52,34 @@ public class ResourcesHandlerTest {
         assertThat(response.getContentType(), equalTo("text/css"));
         assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testResourcePathPrecompressed() {
+        //given
+        WebResponse response = WebRequest.get("/assets/stylesheet/precompressed.css").withHeader(Headers.ACCEPT_ENCODING_STRING, "gzip").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getContentType(), equalTo("text/css"));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getHeader(Headers.VARY_STRING), equalTo(Headers.ACCEPT_ENCODING_STRING));
+        assertThat(response.getContent(), containsString("margin: 0;"));
+    }
+
+    @Test
+    public void testResourceFileConditional() {
+        //given
+        WebResponse response = WebRequest.get("/robots.txt").execute();
+        String etag = response.getHeader(Headers.ETAG_STRING);
+
+        //when
+        WebResponse conditional = WebRequest.get("/robots.txt").withHeader(Headers.IF_NONE_MATCH_STRING, etag).execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(etag, not(nullValue()));
+        assertThat(response.getHeader(Headers.LAST_MODIFIED_STRING), not(nullValue()));
+        assertThat(conditional, not(nullValue()));
+        assertThat(conditional.getStatusCode(), equalTo(StatusCodes.NOT_MODIFIED));
+    }
+}
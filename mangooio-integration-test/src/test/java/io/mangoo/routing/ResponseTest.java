@@ -6,6 +6,7 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Mockito.mock;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -193,6 +194,24 @@ public class ResponseTest {
         assertThat(response.getBody(), equalTo("[\"foo\",\"bar\"]"));
     }
     
+    @Test
+    public void testAndCsvStream() throws IOException {
+        //given
+        Response response = Response.withOk();
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+
+        //when
+        response.andCsvStream(Arrays.asList(Arrays.asList("foo", null, "bar\nbaz")).iterator());
+        boolean more = response.getStream().write(chunk);
+
+        //then
+        assertThat(response.getContentType(), equalTo(ContentType.TEXT_CSV.toString()));
+        assertThat(response.isStream(), equalTo(true));
+        assertThat(response.isRendered(), equalTo(true));
+        assertThat(more, equalTo(false));
+        assertThat(chunk.toString("UTF-8"), equalTo("foo,,\"bar\nbaz\"\r\n"));
+    }
+
     @Test
     public void testAndBinaryFile() throws FileNotFoundException, IOException {
         //given
@@ -206,6 +225,7 @@ public class ResponseTest {
         
         //then
         assertThat(response.getBinaryFileName(), equalTo(file.getName()));
+        assertThat(response.getBinaryFile(), equalTo(file));
         assertThat(response.isBinary(), equalTo(true));
         assertThat(response.isRendered(), equalTo(true));
         assertThat(response.getBinaryContent(), equalTo(IOUtils.toByteArray(fileInpuStream)));
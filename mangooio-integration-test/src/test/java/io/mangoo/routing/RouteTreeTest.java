@@ -0,0 +1,129 @@
+package io.mangoo.routing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Test;
+
+import io.undertow.server.HttpHandler;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class RouteTreeTest {
+    private static final HttpHandler STATIC = exchange -> {};
+    private static final HttpHandler PARAMETER = exchange -> {};
+    private static final HttpHandler MULTIPLE = exchange -> {};
+    private static final HttpHandler WILDCARD = exchange -> {};
+
+    @Test
+    public void testStaticMatch() {
+        //given
+        RouteTree routeTree = new RouteTree();
+        routeTree.add("/", STATIC);
+        routeTree.add("/foo/bar", STATIC);
+
+        //when
+        RouteMatch root = routeTree.match("/");
+        RouteMatch routeMatch = routeTree.match("/foo/bar/");
+
+        //then
+        assertThat(root, not(nullValue()));
+        assertThat(routeMatch, not(nullValue()));
+        assertThat(routeMatch.getHandler(), equalTo(STATIC));
+        assertThat(routeMatch.getParameterCount(), equalTo(0));
+    }
+
+    @Test
+    public void testParameterMatch() {
+        //given
+        RouteTree routeTree = new RouteTree();
+        routeTree.add("/string/{foo}", PARAMETER);
+        routeTree.add("/multiple/{foo}/{bar}", MULTIPLE);
+
+        //when
+        RouteMatch single = routeTree.match("/string/bar");
+        RouteMatch multiple = routeTree.match("/multiple/1/2");
+
+        //then
+        assertThat(single.getHandler(), equalTo(PARAMETER));
+        assertThat(single.getParameter("foo"), equalTo("bar"));
+        assertThat(multiple.getHandler(), equalTo(MULTIPLE));
+        assertThat(multiple.getParameterCount(), equalTo(2));
+        assertThat(multiple.getParameter("foo"), equalTo("1"));
+        assertThat(multiple.getParameter("bar"), equalTo("2"));
+    }
+
+    @Test
+    public void testStaticBeforeParameter() {
+        //given
+        RouteTree routeTree = new RouteTree();
+        routeTree.add("/foo/{bar}/baz", PARAMETER);
+        routeTree.add("/foo/bar/qux", STATIC);
+
+        //when
+        RouteMatch staticMatch = routeTree.match("/foo/bar/qux");
+        RouteMatch parameterMatch = routeTree.match("/foo/bar/baz");
+
+        //then
+        assertThat(staticMatch.getHandler(), equalTo(STATIC));
+        assertThat(parameterMatch.getHandler(), equalTo(PARAMETER));
+        assertThat(parameterMatch.getParameter("bar"), equalTo("bar"));
+    }
+
+    @Test
+    public void testWildcardMatch() {
+        //given
+        RouteTree routeTree = new RouteTree();
+        routeTree.add("/files/*", WILDCARD);
+
+        //when
+        RouteMatch routeMatch = routeTree.match("/files/css/app.css");
+
+        //then
+        assertThat(routeMatch.getHandler(), equalTo(WILDCARD));
+    }
+
+    @Test
+    public void testNoMatch() {
+        //given
+        RouteTree routeTree = new RouteTree();
+        routeTree.add("/string/{foo}", PARAMETER);
+
+        //then
+        assertThat(routeTree.match("/string"), nullValue());
+        assertThat(routeTree.match("/string/foo/bar"), nullValue());
+        assertThat(routeTree.match("/integer/1"), nullValue());
+    }
+
+    @Test
+    public void testManySegments() {
+        //given
+        RouteTree routeTree = new RouteTree();
+        for (int i = 0; i < 1000; i++) {
+            routeTree.add("/api/static" + i + "/list", STATIC);
+            routeTree.add("/api/parameter" + i + "/{id}/items/{item}", MULTIPLE);
+        }
+
+        //when
+        RouteMatch routeMatch = routeTree.match("/api/parameter999/42/items/foo");
+
+        //then
+        assertThat(routeTree.match("/api/static0/list").getHandler(), equalTo(STATIC));
+        assertThat(routeMatch.getHandler(), equalTo(MULTIPLE));
+        assertThat(routeMatch.getParameter("id"), equalTo("42"));
+        assertThat(routeMatch.getParameter("item"), equalTo("foo"));
+        assertThat(routeTree.match("/api/parameter1000/42/items/foo"), nullValue());
+        assertThat(routeTree.match("/api/missing/42"), nullValue());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testPartialParameter() {
+        //given
+        new RouteTree().add("/foo{bar}", PARAMETER);
+    }
+}
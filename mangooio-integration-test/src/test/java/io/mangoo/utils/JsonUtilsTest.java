@@ -5,6 +5,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Test;
 
 import com.jayway.jsonpath.ReadContext;
@@ -34,6 +37,19 @@ public class JsonUtilsTest {
         assertThat(json, equalTo(expectedJson));
     }
     
+    @Test
+    public void testToJsonBuffer() {
+        //given
+        Car car = new Car();
+        
+        //when
+        ByteBuffer buffer = JsonUtils.toJsonBuffer(car);
+        
+        //then
+        assertThat(buffer, not(nullValue()));
+        assertThat(StandardCharsets.UTF_8.decode(buffer).toString(), equalTo(expectedJson));
+    }
+    
     @Test
     public void testFromJson() {
         //given
@@ -61,6 +77,21 @@ public class JsonUtilsTest {
         assertThat(car.foo, equalTo("blablabla"));
     }
     
+    @Test
+    public void testFromJsonBytesToClass() {
+        //given
+        byte[] json = "{\"brand\":null,\"doors\":0,\"foo\":\"blablabla\"}".getBytes(StandardCharsets.UTF_8);
+        
+        //when
+        Car car = JsonUtils.fromJson(json, Car.class);
+        
+        //then
+        assertThat(car, not(nullValue()));
+        assertThat(car.brand, equalTo(null));
+        assertThat(car.doors, equalTo(0));
+        assertThat(car.foo, equalTo("blablabla"));
+    }
+    
     @Test
     public void testCustomSerializer(){
         //given